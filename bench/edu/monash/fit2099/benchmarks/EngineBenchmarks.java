@@ -0,0 +1,335 @@
+package edu.monash.fit2099.benchmarks;
+
+import edu.monash.fit2099.demo.conwayslife.ConwayGameMap;
+import edu.monash.fit2099.demo.conwayslife.Tree;
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.capabilities.CapabilitySet;
+import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.displays.HeadlessDisplay;
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.FancyGroundFactory;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
+import edu.monash.fit2099.engine.positions.World;
+import game.behaviour.FollowBehaviour;
+import game.terrain.Dirt;
+import game.terrain.Wall;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for the hot paths of the engine.
+ * <p>
+ * Every fixture is built from a fixed seed, so runs are reproducible and can be compared
+ * to track regressions. Pass benchmark names (or prefixes) as arguments to run only those.
+ * <p>
+ * This source root sits beside {@code src} and has no dependencies beyond it, e.g.
+ * <pre>
+ * javac -encoding UTF-8 -d out/bench $(find src bench -name '*.java')
+ * java -cp out/bench edu.monash.fit2099.benchmarks.EngineBenchmarks [names...]
+ * </pre>
+ */
+public class EngineBenchmarks {
+	private static final long SEED = 2099;
+
+	public static void main(String[] args) {
+		run(args, "world.processActorTurn", EngineBenchmarks::turnAssembly);
+		run(args, "actorLocations.iterate", EngineBenchmarks::actorIteration);
+		run(args, "actorLocations.move", EngineBenchmarks::actorMove);
+		run(args, "gameMap.tick", EngineBenchmarks::mapTick);
+		run(args, "gameMap.tickStriped", EngineBenchmarks::mapTickStriped);
+		run(args, "gameMap.draw", EngineBenchmarks::mapDraw);
+		run(args, "capabilitySet.hasCapability", EngineBenchmarks::capabilitySetLookup);
+		run(args, "actor.hasCapability", EngineBenchmarks::actorCapabilityLookup);
+		run(args, "followBehaviour.getAction", EngineBenchmarks::follow);
+		run(args, "gameMap.actorsWithin", EngineBenchmarks::actorsWithin);
+		run(args, "gameMap.nearestActorWith", EngineBenchmarks::nearestActor);
+		run(args, "conwayLocation.tick", EngineBenchmarks::conwayTick);
+	}
+
+	/**
+	 * Build a fixture and measure it, unless it has been filtered out.
+	 *
+	 * @param filters   the names (or prefixes) of the benchmarks to run; all are run if empty
+	 * @param name      the name of the benchmark
+	 * @param benchmark builds the fixture and returns one operation on it
+	 */
+	private static void run(String[] filters, String name, Supplier<Runnable> benchmark) {
+		if (filters.length > 0) {
+			boolean selected = false;
+			for (String filter : filters)
+				selected |= name.startsWith(filter);
+			if (!selected)
+				return;
+		}
+		Harness.measure(name, benchmark.get());
+	}
+
+	/**
+	 * One op: assembling and executing the turn of one Actor, among 500 Actors carrying 5 items each,
+	 * with items scattered on the ground.
+	 */
+	private static Runnable turnAssembly() {
+		BenchWorld world = new BenchWorld();
+		GameMap map = newDirtMap(100, 100);
+		world.addGameMap(map);
+		List<Actor> actors = scatterActors(map, 500, 5);
+		Random random = new Random(SEED);
+		for (int i = 0; i < 1000; i++)
+			map.at(random.nextInt(100), random.nextInt(100)).addItem(new Trinket());
+
+		int[] next = {0};
+		return () -> {
+			world.processTurnOf(actors.get(next[0]));
+			next[0] = (next[0] + 1) % actors.size();
+		};
+	}
+
+	/**
+	 * One op: iterating over all of 10,000 Actors.
+	 */
+	private static Runnable actorIteration() {
+		BenchWorld world = new BenchWorld();
+		GameMap map = newDirtMap(200, 200);
+		world.addGameMap(map);
+		scatterActors(map, 10_000, 0);
+		Iterable<Actor> actorLocations = world.actors();
+
+		return () -> {
+			long count = 0;
+			for (Actor actor : actorLocations)
+				count += actor.getDisplayChar();
+			Harness.consume(count);
+		};
+	}
+
+	/**
+	 * One op: moving an Actor back and forth between two cells on a map of 10,000 Actors.
+	 */
+	private static Runnable actorMove() {
+		World world = new World(new HeadlessDisplay());
+		GameMap map = newDirtMap(200, 200);
+		world.addGameMap(map);
+		scatterActors(map, 10_000, 0);
+		Actor mover = new Dummy();
+		Location a = map.at(0, 0);
+		Location b = map.at(1, 0);
+		if (a.containsAnActor())
+			map.removeActor(a.getActor());
+		if (b.containsAnActor())
+			map.removeActor(b.getActor());
+		map.addActor(mover, a);
+
+		return () -> {
+			map.moveActor(mover, b);
+			map.moveActor(mover, a);
+		};
+	}
+
+	/**
+	 * One op: ticking a 1000x1000 map of inert ground with 1,000 Actors.
+	 */
+	private static Runnable mapTick() {
+		World world = new World(new HeadlessDisplay());
+		GameMap map = newDirtMap(1000, 1000);
+		world.addGameMap(map);
+		scatterActors(map, 1000, 2);
+		return map::tick;
+	}
+
+	/**
+	 * One op: ticking a 1000x1000 map of inert ground with 1,000 Actors, in stripes on the common pool.
+	 */
+	private static Runnable mapTickStriped() {
+		World world = new World(new HeadlessDisplay());
+		GameMap map = newDirtMap(1000, 1000);
+		world.addGameMap(map);
+		scatterActors(map, 1000, 2);
+		map.setTickPool(ForkJoinPool.commonPool());
+		return map::tick;
+	}
+
+	/**
+	 * One op: drawing a 1000x1000 map into a display that discards everything.
+	 */
+	private static Runnable mapDraw() {
+		World world = new World(new HeadlessDisplay());
+		GameMap map = newDirtMap(1000, 1000);
+		world.addGameMap(map);
+		scatterActors(map, 1000, 0);
+		Display display = new HeadlessDisplay();
+		return () -> map.draw(display);
+	}
+
+	/**
+	 * One op: looking up a present and an absent capability in a set of eight.
+	 */
+	private static Runnable capabilitySetLookup() {
+		CapabilitySet capabilities = new CapabilitySet();
+		for (Tag tag : Tag.values()) {
+			if (tag != Tag.ABSENT)
+				capabilities.addCapability(tag);
+		}
+		return () -> {
+			Harness.consume(capabilities.hasCapability(Tag.SEVEN));
+			Harness.consume(capabilities.hasCapability(Tag.ABSENT));
+		};
+	}
+
+	/**
+	 * One op: looking up an absent capability on an Actor carrying 100 items (the worst case).
+	 */
+	private static Runnable actorCapabilityLookup() {
+		Actor actor = new Dummy();
+		for (int i = 0; i < 100; i++)
+			actor.addItemToInventory(new Trinket());
+		return () -> Harness.consume(actor.hasCapability(Tag.ABSENT));
+	}
+
+	/**
+	 * One op: a follower choosing its next step towards a target 40 cells away, around a wall.
+	 */
+	private static Runnable follow() {
+		World world = new World(new HeadlessDisplay());
+		GameMap map = newDirtMap(100, 100);
+		world.addGameMap(map);
+		for (int y = 20; y < 80; y++)
+			map.at(50, y).setGround(new Wall());
+		Actor follower = new Dummy();
+		Actor target = new Dummy();
+		map.addActor(follower, map.at(30, 50));
+		map.addActor(target, map.at(70, 50));
+		FollowBehaviour behaviour = new FollowBehaviour(target);
+
+		return () -> Harness.consume(behaviour.getAction(follower, map));
+	}
+
+	/**
+	 * One op: finding the Actors within 10 steps of the centre of a 1000x1000 map holding 5000 Actors.
+	 */
+	private static Runnable actorsWithin() {
+		World world = new World(new HeadlessDisplay());
+		GameMap map = newDirtMap(1000, 1000);
+		world.addGameMap(map);
+		scatterActors(map, 5000, 0);
+		Location centre = map.at(500, 500);
+		return () -> Harness.consume(map.actorsWithin(centre, 10));
+	}
+
+	/**
+	 * One op: finding the nearest of 50 tagged Actors among 5000 on a 1000x1000 map.
+	 */
+	private static Runnable nearestActor() {
+		World world = new World(new HeadlessDisplay());
+		GameMap map = newDirtMap(1000, 1000);
+		world.addGameMap(map);
+		List<Actor> actors = scatterActors(map, 5000, 0);
+		for (int i = 0; i < actors.size(); i += 100)
+			actors.get(i).addCapability(Tag.ONE);
+		Location centre = map.at(500, 500);
+		return () -> Harness.consume(map.nearestActorWith(centre, Tag.ONE, 1000));
+	}
+
+	/**
+	 * One op: one tick of a 200x200 Game of Life board seeded at random (a quarter of cells alive).
+	 */
+	private static Runnable conwayTick() {
+		Random random = new Random(SEED);
+		List<String> lines = new ArrayList<>();
+		for (int y = 0; y < 200; y++) {
+			StringBuilder line = new StringBuilder();
+			for (int x = 0; x < 200; x++)
+				line.append(random.nextInt(4) == 0 ? '+' : '.');
+			lines.add(line.toString());
+		}
+		World world = new World(new HeadlessDisplay());
+		GameMap map = new ConwayGameMap(new FancyGroundFactory(
+				new edu.monash.fit2099.demo.conwayslife.Floor(), new Tree()), lines);
+		world.addGameMap(map);
+		return map::tick;
+	}
+
+	private static GameMap newDirtMap(int width, int height) {
+		return new GameMap("Benchmark", new FancyGroundFactory(new Dirt()), '.', width, height);
+	}
+
+	/**
+	 * Place Actors on distinct random cells of a map.
+	 *
+	 * @param map           the map to fill
+	 * @param count         the number of Actors to place
+	 * @param inventorySize the number of items each Actor carries
+	 * @return the Actors placed, in the order they were placed
+	 */
+	private static List<Actor> scatterActors(GameMap map, int count, int inventorySize) {
+		Random random = new Random(SEED);
+		int width = map.getXRange().max() + 1;
+		int height = map.getYRange().max() + 1;
+		List<Actor> actors = new ArrayList<>();
+		while (actors.size() < count) {
+			Location location = map.at(random.nextInt(width), random.nextInt(height));
+			if (location.containsAnActor())
+				continue;
+			Actor actor = new Dummy();
+			for (int i = 0; i < inventorySize; i++)
+				actor.addItemToInventory(new Trinket());
+			map.addActor(actor, location);
+			actors.add(actor);
+		}
+		return actors;
+	}
+
+	/**
+	 * Capabilities used by the fixtures.
+	 */
+	private enum Tag {
+		ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, ABSENT
+	}
+
+	/**
+	 * An Actor that always chooses the last available Action (doing nothing), so fixtures stay put.
+	 */
+	private static class Dummy extends Actor {
+		Dummy() {
+			super("Dummy", 'd', 100);
+		}
+
+		@Override
+		public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
+			return actions.get(actions.size() - 1);
+		}
+	}
+
+	/**
+	 * A portable Item with a single capability.
+	 */
+	private static class Trinket extends Item {
+		Trinket() {
+			super("trinket", '*', true);
+			addCapability(Tag.ONE);
+		}
+	}
+
+	/**
+	 * A World that exposes single actor turns and its actor iteration.
+	 */
+	private static class BenchWorld extends World {
+		BenchWorld() {
+			super(new HeadlessDisplay());
+		}
+
+		void processTurnOf(Actor actor) {
+			processActorTurn(actor);
+		}
+
+		Iterable<Actor> actors() {
+			return actorLocations;
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package edu.monash.fit2099.benchmarks;
+
+/**
+ * A small, dependency-free microbenchmark runner in the style of JMH.
+ * <p>
+ * Each benchmark is warmed up for a fixed time so the JIT can settle, then measured over several
+ * fixed-length iterations. The mean time per operation and its spread across iterations are reported,
+ * so results can be compared run against run to spot regressions.
+ * <p>
+ * Timings can be tuned with system properties (all in milliseconds, except the iteration count):
+ * <ul>
+ * <li>{@code bench.warmup} - warm-up time per benchmark (default 1000)</li>
+ * <li>{@code bench.time} - length of each measured iteration (default 1000)</li>
+ * <li>{@code bench.iterations} - number of measured iterations (default 5)</li>
+ * </ul>
+ */
+final class Harness {
+	private static final long WARMUP_NANOS = Long.getLong("bench.warmup", 1000) * 1_000_000L;
+	private static final long ITERATION_NANOS = Long.getLong("bench.time", 1000) * 1_000_000L;
+	private static final int ITERATIONS = Integer.getInteger("bench.iterations", 5);
+
+	/**
+	 * Results are written here so that the JIT can't discard the work that produced them.
+	 */
+	private static volatile Object sink;
+	private static volatile long counter;
+
+	private Harness() {
+	}
+
+	/**
+	 * Keep a result alive.
+	 *
+	 * @param result the result of a benchmarked operation
+	 */
+	static void consume(Object result) {
+		sink = result;
+	}
+
+	/**
+	 * Keep a primitive result alive.
+	 *
+	 * @param result the result of a benchmarked operation
+	 */
+	static void consume(long result) {
+		counter += result;
+	}
+
+	/**
+	 * Warm up and measure one benchmark, printing a line of results.
+	 *
+	 * @param name      the name to report the benchmark under
+	 * @param operation one operation of the benchmark
+	 */
+	static void measure(String name, Runnable operation) {
+		runFor(WARMUP_NANOS, operation);
+
+		double[] nanosPerOp = new double[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			long ops = runFor(ITERATION_NANOS, operation);
+			nanosPerOp[i] = (double) (System.nanoTime() - start) / ops;
+		}
+
+		double mean = 0;
+		for (double value : nanosPerOp)
+			mean += value;
+		mean /= ITERATIONS;
+
+		double variance = 0;
+		for (double value : nanosPerOp)
+			variance += (value - mean) * (value - mean);
+		double deviation = ITERATIONS > 1 ? Math.sqrt(variance / (ITERATIONS - 1)) : 0;
+
+		System.out.printf("%-45s %15.1f ns/op  +- %10.1f  (%d iterations)%n", name, mean, deviation, ITERATIONS);
+	}
+
+	/**
+	 * Repeatedly run an operation for (at least) the given time.
+	 * Operations are run in batches that grow while they take less than a millisecond, so that
+	 * reading the clock doesn't dominate fast benchmarks and slow ones don't overshoot the deadline.
+	 *
+	 * @param nanos     how long to run for
+	 * @param operation the operation to run
+	 * @return the number of operations run
+	 */
+	private static long runFor(long nanos, Runnable operation) {
+		long deadline = System.nanoTime() + nanos;
+		long ops = 0;
+		int batch = 1;
+		long now;
+		do {
+			long batchStart = System.nanoTime();
+			for (int i = 0; i < batch; i++)
+				operation.run();
+			ops += batch;
+			now = System.nanoTime();
+			if (now - batchStart < 1_000_000L && batch < (1 << 20))
+				batch *= 2;
+		} while (now < deadline);
+		return ops;
+	}
+}
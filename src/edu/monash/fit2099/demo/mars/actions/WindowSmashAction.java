@@ -6,14 +6,11 @@ import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
-import java.util.Random;
-
 
 public class WindowSmashAction extends Action {
 
 	private final String direction;
 	private final Location windowLocation;
-	private final Random rand = new Random();
 	
 	public WindowSmashAction(String direction, Location windowLocation) {
 		this.direction = direction;
@@ -22,7 +19,7 @@ public class WindowSmashAction extends Action {
 	
 	@Override
 	public String execute(Actor actor, GameMap map) {
-		if(rand.nextBoolean()) {
+		if(actor.getRandom().nextBoolean()) {
 			return actor + " hurts their foot.";
 		}
 		else {
@@ -1,20 +1,17 @@
 package edu.monash.fit2099.demo.mars.actors;
 
-import java.util.*;
-
 import edu.monash.fit2099.demo.mars.actions.KickAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
-import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.actors.BehaviourSet;
 
 
 public class Bug extends Actor {
 
-    private final Random rand = new Random();
-    public List<Behaviour> behaviours = new ArrayList<>();
+    public final BehaviourSet behaviours = new BehaviourSet();
 
     public Bug() {
         super("Feature", 'x', 1);
@@ -22,18 +19,17 @@ public class Bug extends Actor {
 
     @Override
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
-        for (Behaviour behaviour : behaviours) {
-            Action action = behaviour.getAction(this, map);
-            if (action != null)
-                return action;
-        }
+        Action action = behaviours.getAction(this, map);
+        if (action != null)
+            return action;
 
-        return actions.get(rand.nextInt(actions.size()));
+        return actions.get(getRandom().nextInt(actions.size()));
     }
 
     @Override
     public ActionList allowableActions(Actor otherActor, String direction, GameMap map) {
-        ActionList list = super.allowableActions(otherActor, direction, map);
+        ActionList list = new ActionList();
+        list.add(super.allowableActions(otherActor, direction, map));
         list.add(new KickAction(this));
         return list;
     }
@@ -18,7 +18,8 @@ public class MartianItem extends Item{
 
 	@Override
 	public ActionList allowableActions(Location location) {
-		ActionList actions = super.allowableActions(location);
+		ActionList actions = new ActionList();
+		actions.add(super.allowableActions(location));
 		actions.add(martianAction);
 		return actions;
 	}
@@ -1,5 +1,6 @@
 package edu.monash.fit2099.engine;
 
+import edu.monash.fit2099.engine.capabilities.CapabilityCounter;
 import edu.monash.fit2099.engine.capabilities.CapabilitySet;
 
 import java.util.List;
@@ -46,6 +47,24 @@ public abstract class GameEntity {
         return capabilitySet.hasCapability(capability);
     }
 
+    /**
+     * Include this entity's capabilities in a counter, which is kept up to date as they change
+     * until {@link #uncountCapabilities(CapabilityCounter)} is called.
+     * Example #1: an Actor counts the capabilities of the items it carries, so that checking them doesn't mean asking every item.
+     * @param counter the counter to include this entity's capabilities in
+     */
+    public final void countCapabilities(CapabilityCounter counter) {
+        counter.add(capabilitySet);
+    }
+
+    /**
+     * Stop including this entity's capabilities in a counter.
+     * @param counter a counter given to {@link #countCapabilities(CapabilityCounter)}
+     */
+    public final void uncountCapabilities(CapabilityCounter counter) {
+        counter.remove(capabilitySet);
+    }
+
     /**
      * Get unmodifiable capabilities list
      * Example #1: if the current entity has the Status.POISONED and Ability.FALL_FROM_CLIFF capabilities, this method will return a list of
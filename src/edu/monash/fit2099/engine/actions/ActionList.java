@@ -10,6 +10,11 @@ import java.util.List;
  * A thin wrapper for <code>java.util.ArrayList&lt;Action&gt;</code> that does not allow nulls to be added.
  */
 public class ActionList implements Iterable<Action> {
+	/**
+	 * The shared, unmodifiable empty list returned by {@link #empty()}
+	 */
+	private static final ActionList EMPTY = new EmptyActionList();
+
 	/**
 	 * List of actions
 	 */
@@ -28,14 +33,25 @@ public class ActionList implements Iterable<Action> {
 		add(action);
 	}
 
+	/**
+	 * Returns a shared, unmodifiable empty list of Actions.
+	 * Use this instead of <code>new ActionList()</code> when there is nothing to return, so that
+	 * the game loop does not allocate a fresh list for every Item, Ground and Actor on every turn.
+	 * Attempting to add a (non-null) Action to it throws an UnsupportedOperationException.
+	 * @return the empty ActionList
+	 */
+	public static ActionList empty() {
+		return EMPTY;
+	}
 	
 	/**
 	 * Appends the contents of another Actions list to this one.
 	 * @param actions the Actions to append
 	 */
 	public void add(ActionList actions) {
-		for(Action action : actions) {
-			add(action);
+		// Indexed rather than enhanced for, so that appending doesn't allocate an Iterator
+		for (int i = 0; i < actions.size(); i++) {
+			add(actions.get(i));
 		}
 	}
 	
@@ -127,4 +143,16 @@ public class ActionList implements Iterable<Action> {
 	public List<Action> getUnmodifiableActionList() {
 		return Collections.unmodifiableList(actions);
 	}
+
+	/**
+	 * The immutable ActionList behind {@link ActionList#empty()}.
+	 */
+	private static class EmptyActionList extends ActionList {
+		@Override
+		public boolean add(Action action) {
+			if (action != null)
+				throw new UnsupportedOperationException("ActionList.empty() cannot be modified");
+			return true;
+		}
+	}
 }
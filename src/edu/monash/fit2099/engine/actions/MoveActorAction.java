@@ -6,21 +6,24 @@ import edu.monash.fit2099.engine.positions.Location;
 
 /**
  * An Action that moves the Actor.
+ *
+ * MoveActorActions are immutable, so a single instance can be shared by every Actor
+ * taking the same route (see {@link Location#getMoveAction(Actor, String, String)}).
  */
 public class MoveActorAction extends Action {
 
 	/**
 	 * Target location
 	 */
-	private Location moveToLocation;
+	private final Location moveToLocation;
 	/**
 	 * One of the 8-d navigation
 	 */
-	private String direction;
+	private final String direction;
 	/**
 	 * Or the command key
 	 */
-	private String hotKey;
+	private final String hotKey;
 
 	/**
 	 * Constructor to create an Action that will move the Actor to a Location in a given Direction, using
@@ -82,6 +85,24 @@ public class MoveActorAction extends Action {
 		return actor + " moves " + direction;
 	}
 
+	/**
+	 * Returns where this Action moves the Actor to.
+	 *
+	 * @return the destination
+	 */
+	public Location getDestination() {
+		return moveToLocation;
+	}
+
+	/**
+	 * Returns the direction of the move, as shown in the menu.
+	 *
+	 * @return the direction, e.g. "north"
+	 */
+	public String getDirection() {
+		return direction;
+	}
+
 	/**
 	 * Returns this Action's hotkey.
 	 *
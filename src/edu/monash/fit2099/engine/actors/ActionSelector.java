@@ -0,0 +1,28 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * A strategy for picking an Action out of the Actions available to an Actor on its turn.
+ *
+ * This lets the game loop drive an Actor (usually the player) without going through
+ * {@link Actor#playTurn(ActionList, Action, GameMap, edu.monash.fit2099.engine.displays.Display)},
+ * e.g. to run unattended simulations that never wait for keyboard input.
+ *
+ * @see edu.monash.fit2099.engine.positions.HeadlessWorld
+ */
+public interface ActionSelector {
+
+	/**
+	 * Select the Action the Actor will perform this turn.
+	 *
+	 * @param actor      the Actor whose turn it is
+	 * @param actions    collection of possible Actions for the Actor
+	 * @param lastAction the Action the Actor took last turn
+	 * @param map        the map containing the Actor
+	 * @return the Action to be performed
+	 */
+	Action select(Actor actor, ActionList actions, Action lastAction, GameMap map);
+}
@@ -8,11 +8,16 @@ import edu.monash.fit2099.engine.actors.attributes.ActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
 import edu.monash.fit2099.engine.actors.attributes.BaseActorAttributes;
+import edu.monash.fit2099.engine.actors.attributes.IntActorAttribute;
+import edu.monash.fit2099.engine.capabilities.CapabilityCounter;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.displays.Printable;
+import edu.monash.fit2099.engine.events.ActorHurtEvent;
+import edu.monash.fit2099.engine.events.ActorUnconsciousEvent;
 import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import edu.monash.fit2099.engine.items.Item;
 import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.Location;
 
 import java.util.*;
 
@@ -31,7 +36,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * For example, in addition to hit points, another attribute that represents its stamina can be added.
      * If the actor runs out of stamina, it will be unable to perform certain actions, such as attacking.
      */
-    private final Map<Enum<?>, ActorAttribute<Integer>> attributes = new HashMap<>();
+    private final AttributeTable attributes = new AttributeTable();
     /**
      * Actor's name
      */
@@ -44,6 +49,10 @@ public abstract class Actor extends GameEntity implements Printable {
      * A bag of items
      */
     private final List<Item> itemInventory = new ArrayList<>();
+    /**
+     * The capabilities of the items in the inventory, counted so that checking them doesn't mean asking every item
+     */
+    private final CapabilityCounter inventoryCapabilities = new CapabilityCounter();
     /**
      * Status effects of the current actor,
      * e.g., the current actor might be poisoned, so a Poison status effect
@@ -56,6 +65,19 @@ public abstract class Actor extends GameEntity implements Printable {
     protected float damageMultiplier;
     private final Wallet wallet;
     private IntrinsicWeapon intrinsicWeapon;
+    /**
+     * Where this actor currently stands, maintained by {@link ActorLocationsIterator}.
+     * Null if the actor is not in the system.
+     */
+    Location location;
+    /**
+     * This actor's place in the turn order, maintained by {@link TurnOrder}.
+     */
+    TurnOrder.Slot turnSlot;
+    /**
+     * This actor's own random numbers, split off the World's by {@link ActorLocationsIterator} when it is placed.
+     */
+    SplittableRandom random;
 
     /**
      * The constructor of the Actor class.
@@ -79,7 +101,16 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return true if the actor has the queried attribute, false otherwise
      */
     public boolean hasAttribute(Enum<?> name) {
-        return this.attributes.containsKey(name);
+        return this.attributes.get(name) != null;
+    }
+
+    /**
+     * Returns the names of all this actor's attributes.
+     *
+     * @return an unmodifiable list of the names, such as BaseActorAttributes.HEALTH
+     */
+    public List<Enum<?>> getAttributeNames() {
+        return Collections.unmodifiableList(attributes.names());
     }
 
     /**
@@ -89,7 +120,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param attribute an object that implements the {@link ActorAttribute} interface.
      */
     public void addAttribute(Enum<?> name, ActorAttribute<Integer> attribute) {
-        this.attributes.put(name, attribute);
+        this.attributes.put(name, IntActorAttribute.of(attribute));
     }
 
     /**
@@ -149,7 +180,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the value of the attribute.
      */
     public int getAttribute(Enum<?> name) {
-        return this.attributes.get(name).get();
+        return this.attributes.get(name).getAsInt();
     }
 
     /**
@@ -159,7 +190,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return the maximum value of the attribute.
      */
     public int getAttributeMaximum(Enum<?> name) {
-        return this.attributes.get(name).getMaximum();
+        return this.attributes.get(name).getMaximumAsInt();
     }
 
     /**
@@ -212,6 +243,13 @@ public abstract class Actor extends GameEntity implements Printable {
         this.damageMultiplier += damageMultiplier;
     }
 
+    /**
+     * @return the Actor's name, without its hit points
+     */
+    public String getName() {
+        return name;
+    }
+
     /**
      * A method for returning the string representation of an actor.
      * It displays the actor's name and its current hit points, along with its maximum health hit points.
@@ -241,6 +279,8 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public final void setDisplayChar(char displayChar) {
         this.displayChar = displayChar;
+        if (location != null)
+            location.map().markDirty(location);
     }
 
     /**
@@ -250,6 +290,7 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void addItemToInventory(Item item) {
         itemInventory.add(item);
+        item.countCapabilities(inventoryCapabilities);
     }
 
     /**
@@ -260,7 +301,8 @@ public abstract class Actor extends GameEntity implements Printable {
      * @param item The Item to remove.
      */
     public void removeItemFromInventory(Item item) {
-        itemInventory.remove(item);
+        if (itemInventory.remove(item))
+            item.uncountCapabilities(inventoryCapabilities);
     }
 
     /**
@@ -315,7 +357,8 @@ public abstract class Actor extends GameEntity implements Printable {
     public abstract Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display);
 
     /**
-     * Returns a new collection of the Actions that the otherActor can do to the current Actor.
+     * Returns a collection of the Actions that the otherActor can do to the current Actor.
+     * By default this is the shared, unmodifiable {@link ActionList#empty()}.
      *
      * @param otherActor the Actor that might be performing attack
      * @param direction  String representing the direction of the other Actor
@@ -323,7 +366,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return A collection of Actions.
      */
     public ActionList allowableActions(Actor otherActor, String direction, GameMap map) {
-        return new ActionList();
+        return ActionList.empty();
     }
 
     /**
@@ -347,6 +390,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return a string describing what happened when the actor is unconscious
      */
     public String unconscious(Actor actor, GameMap map) {
+        recordUnconscious(actor, map);
         map.removeActor(this);
         return this + " met their demise in the hand of " + actor;
     }
@@ -359,6 +403,7 @@ public abstract class Actor extends GameEntity implements Printable {
      * @return a string describing what happened when the actor is unconscious
      */
     public String unconscious(GameMap map) {
+        recordUnconscious(null, map);
         map.removeActor(this);
         return this + " ceased to exist.";
     }
@@ -370,6 +415,26 @@ public abstract class Actor extends GameEntity implements Printable {
      */
     public void hurt(int damage) {
         this.modifyAttribute(BaseActorAttributes.HEALTH, ActorAttributeOperations.DECREASE, damage);
+
+        ActorHurtEvent event = new ActorHurtEvent();
+        if (event.shouldCommit()) {
+            event.actor = getName();
+            event.actorClass = getClass();
+            event.damage = damage;
+            event.health = getAttribute(BaseActorAttributes.HEALTH);
+            event.commit();
+        }
+    }
+
+    private void recordUnconscious(Actor perpetrator, GameMap map) {
+        ActorUnconsciousEvent event = new ActorUnconsciousEvent();
+        if (event.shouldCommit()) {
+            event.actor = getName();
+            event.actorClass = getClass();
+            event.perpetrator = perpetrator == null ? null : perpetrator.getName();
+            event.map = map.toString();
+            event.commit();
+        }
     }
 
     /**
@@ -400,17 +465,56 @@ public abstract class Actor extends GameEntity implements Printable {
     /**
      * Returns true if and only if the current Actor has the required capability.
      * It will also return true if any of the items that the actor is carrying has the required capability.
+     * The capabilities of carried items are counted as items come and go, so this takes the same time
+     * however many items the actor is carrying.
      *
      * @param capability the capability required
      * @return true if and only if the current Actor has the required capability
      */
     @Override
     public final boolean hasCapability(Enum<?> capability) {
-        for (Item item : itemInventory) {
-            if (item.hasCapability(capability)) {
-                return true;
-            }
-        }
-        return capabilitySet.hasCapability(capability);
+        return inventoryCapabilities.hasCapability(capability) || capabilitySet.hasCapability(capability);
+    }
+
+    /**
+     * Returns every capability this Actor has, including those of the items it is carrying, as bits:
+     * what {@link #hasCapability(Enum)} sees. Two Actors with equal arrays (by
+     * {@link Arrays#equals(long[], long[])}) answer hasCapability the same way for every capability.
+     *
+     * @return a new array with one bit per capability
+     */
+    public long[] capabilityBits() {
+        return inventoryCapabilities.bitsWith(capabilitySet);
+    }
+
+    /**
+     * Checks whether this Actor has exactly the given capabilities, as returned by {@link #capabilityBits()},
+     * without allocating.
+     *
+     * @param bits one bit per capability
+     * @return true if capabilityBits() would return an equal array
+     */
+    public boolean capabilityBitsEqual(long[] bits) {
+        return inventoryCapabilities.bitsWithEqual(capabilitySet, bits);
+    }
+
+    /**
+     * Returns the source of random numbers for anything that happens by chance on this actor's behalf,
+     * such as its attacks hitting or missing, where its behaviours take it, and how its actions turn out.
+     * <p>
+     * Each actor gets its own stream, split off the World's seeded stream when it is added to the World,
+     * when the World is seeded, and, while an {@link edu.monash.fit2099.engine.positions.ActionJournal} is
+     * recording or replaying, after each Action it chooses. Moving, even to another map, doesn't split it.
+     * Actors are added in the same order in every run, so one World seed reproduces the whole game,
+     * and actors being ticked on different threads never draw from the same generator.
+     * Before the actor is first added, the stream is unseeded.
+     *
+     * @return this actor's random numbers
+     * @see edu.monash.fit2099.engine.positions.World#setSeed(long)
+     */
+    public SplittableRandom getRandom() {
+        if (random == null)
+            random = new SplittableRandom();
+        return random;
     }
 }
@@ -1,35 +1,67 @@
 package edu.monash.fit2099.engine.actors;
 
+import edu.monash.fit2099.engine.events.ActorMoveEvent;
+import edu.monash.fit2099.engine.positions.DeferredChanges;
 import edu.monash.fit2099.engine.positions.Location;
 
-import java.util.*;
+import java.util.Iterator;
+import java.util.SplittableRandom;
 
 /**
  * Represents a bimap of locations and actors. Hence it enforces the one actor
  * per location rule. Has a nifty iterator that lets us modify the collection
  * while iterating it.
- *
+ * <p>
+ * Neither direction of the bimap is hashed: the Actor at a Location is kept in the
+ * {@link OccupancyGrid} of the Location's map, and the Location of an Actor is kept
+ * on the Actor itself.
+ * <p>
+ * While GameMaps are ticked in parallel, adding, removing and moving Actors is deferred until
+ * every map has finished ticking (see {@link DeferredChanges}).
+ * <p>
+ * Each Actor is given its own stream of random numbers as it is added, split off a stream held here.
  */
 public class ActorLocationsIterator implements Iterable<Actor> {
 	/**
-	 * A mapping of location to the actor
+	 * Every actor in the system, in the order they take their turns
 	 */
-	private final Map<Location, Actor> locationToActor;
+	private final TurnOrder turnOrder;
 	/**
-	 * A mapping of actor to location
+	 * The stream that each Actor's random numbers are split off
 	 */
-	private final Map<Actor, Location> actorToLocation;
-	/**
-	 * Current actor
-	 */
-	private Actor player;
+	private SplittableRandom random = new SplittableRandom();
 
 	/**
 	 * Default constructor.
 	 */
 	public ActorLocationsIterator() {
-		locationToActor = new HashMap<Location, Actor>();
-		actorToLocation = new HashMap<Actor, Location>();
+		turnOrder = new TurnOrder();
+	}
+
+	/**
+	 * Seed the random numbers of the Actors. Actors already added are given new streams from the seed,
+	 * in turn order, just as if they were added now; Actors added later get theirs as they are added.
+	 *
+	 * @param seed the seed
+	 * @see Actor#getRandom()
+	 */
+	public void setSeed(long seed) {
+		random = new SplittableRandom(seed);
+		for (Actor actor : turnOrder) {
+			actor.random = random.split();
+		}
+	}
+
+	/**
+	 * Give an Actor a new stream of random numbers, split off the one held here.
+	 * <p>
+	 * Doing this between an Actor choosing its Action and performing it keeps the random numbers it
+	 * draws while acting independent of how many it drew while choosing.
+	 *
+	 * @param actor an Actor in the system
+	 */
+	public void splitRandom(Actor actor) {
+		actor.random = random.split();
 	}
 
 	/**
@@ -38,7 +70,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param player the player
 	 */
 	public void setPlayer(Actor player) {
-		this.player = player;
+		turnOrder.setPlayer(player);
 	}
 			
 			
@@ -50,13 +82,18 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @throws IllegalArgumentException if the Actor is already placed or there is already an Actor at the target Location
 	 */
 	public void add(Actor actor, Location location) {
-		if(actorToLocation.containsKey(actor))
+		if (DeferredChanges.isDeferring()) {
+			DeferredChanges.runOrDefer(() -> add(actor, location));
+			return;
+		}
+		if(actor.location != null)
 			throw new IllegalArgumentException();
-		if(locationToActor.containsKey(location))
+		if(isAnActorAt(location))
 			throw new IllegalArgumentException();
 		
-		actorToLocation.put(actor, location);
-		locationToActor.put(location, actor);
+		turnOrder.add(actor);
+		actor.random = random.split();
+		place(actor, location);
 	}
 
 	/**
@@ -65,9 +102,19 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @param actor the Actor to remove
 	 */
 	public void remove(Actor actor) {
-		Location location = actorToLocation.get(actor);
-		actorToLocation.remove(actor);
-		locationToActor.remove(location);
+		if (DeferredChanges.isDeferring()) {
+			DeferredChanges.runOrDefer(() -> remove(actor));
+			return;
+		}
+		if (!contains(actor))
+			return;
+
+		turnOrder.remove(actor);
+		Location location = actor.location;
+		location.map().getOccupancy().set(location.x(), location.y(), null);
+		location.map().markDirty(location);
+		location.map().forgetFlowFieldsTo(actor);
+		actor.location = null;
 	}
 
 	/**
@@ -78,13 +125,43 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @throws IllegalArgumentException if another Actor is already at that Location
 	 */
 	public void move(Actor actor, Location newLocation) {
+		if (DeferredChanges.isDeferring()) {
+			DeferredChanges.runOrDefer(() -> move(actor, newLocation));
+			return;
+		}
 		if(isAnActorAt(newLocation))
 			throw new IllegalArgumentException("Can't move to another actor");
 
-		Location oldLocation = actorToLocation.get(actor);
-		actorToLocation.put(actor, newLocation);
-		locationToActor.remove(oldLocation);
-		locationToActor.put(newLocation, actor);
+		Location oldLocation = actor.location;
+		oldLocation.map().getOccupancy().set(oldLocation.x(), oldLocation.y(), null);
+		oldLocation.map().markDirty(oldLocation);
+		if (oldLocation.map() != newLocation.map())
+			oldLocation.map().forgetFlowFieldsTo(actor);
+		place(actor, newLocation);
+
+		ActorMoveEvent event = new ActorMoveEvent();
+		if (event.shouldCommit()) {
+			event.actor = actor.getName();
+			event.fromMap = oldLocation.map().toString();
+			event.fromX = oldLocation.x();
+			event.fromY = oldLocation.y();
+			event.toMap = newLocation.map().toString();
+			event.toX = newLocation.x();
+			event.toY = newLocation.y();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Record both directions of the bimap for an Actor at a Location.
+	 *
+	 * @param actor the Actor being placed
+	 * @param location where the Actor now stands
+	 */
+	private void place(Actor actor, Location location) {
+		location.map().getOccupancy().set(location.x(), location.y(), actor);
+		location.map().markDirty(location);
+		actor.location = location;
 	}
 
 	/**
@@ -94,7 +171,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return true if and only if actor is somewhere in the system
 	 */
 	public boolean contains(Actor actor) {
-		return actorToLocation.containsKey(actor);
+		return actor != null && actor.location != null;
 	}
 
 	/**
@@ -104,7 +181,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return true if and only if an Actor is at the given Location.
 	 */
 	public boolean isAnActorAt(Location location) {
-		return locationToActor.containsKey(location);
+		return getActorAt(location) != null;
 	}
 
 	/**
@@ -114,7 +191,7 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return a reference to the Actor, or null if there isn't one 
 	 */
 	public Actor getActorAt(Location location) {
-		return locationToActor.get(location);
+		return location.map().getOccupancy().get(location.x(), location.y());
 	}
 
 	/**
@@ -123,67 +200,20 @@ public class ActorLocationsIterator implements Iterable<Actor> {
 	 * @return the Location containing actor
 	 */
 	public Location locationOf(Actor actor) {
-		return actorToLocation.get(actor);
-	}
-
-	/**
-	 * Class to allow iterating over all Actors in the system, player first
-	 * This allows Actors to take turns in a known order.
-	 */
-	class ActorIterator implements Iterator<Actor> {
-		Map<Actor, Location> actorLocations;
-		List<Actor> actors;
-
-		/**
-		 * Constructor.
-		 *
-		 * @param actorLocations the collection of mappings between Actors and Locations
-		 */
-		public ActorIterator(Map<Actor, Location> actorLocations) {
-			this.actorLocations = actorLocations;
-			actors = new ArrayList<Actor>(actorLocations.keySet());
-			
-			// Make sure the player is first. 
-			if(actors.contains(player)) {
-				actors.remove(player);
-				actors.add(0, player);
-			}
-		}
-
-		/**
-		 * @see Iterator#hasNext()
-		 * @return true if there is another Actor that needs to take a turn, false otherwise
-		 */
-		@Override
-		public boolean hasNext() {
-			for (Actor actor : actors) {
-				if (actorLocations.containsKey(actor))
-					return true;
-			}
-
-			return false;
-		}
-
-		/**
-		 * @see Iterator#next()
-		 */
-		@Override
-		public Actor next() {
-			while (!actors.isEmpty()) {
-				Actor actor = actors.remove(0);
-				if (actorLocations.containsKey(actor))
-					return actor;
-			}
-
-			throw new ConcurrentModificationException();
-		}
+		return actor.location;
 	}
 
 	/**
+	 * Iterate over all Actors in the system, player first.
+	 * This allows Actors to take turns in a known order. Actors may be added or removed
+	 * while iterating: removed Actors are skipped, and added Actors get their first turn
+	 * in the next iteration.
+	 *
 	 * @see Iterable#iterator()
+	 * @see TurnOrder
 	 */
 	@Override
 	public Iterator<Actor> iterator() {
-		return new ActorIterator(actorToLocation);
+		return turnOrder.iterator();
 	}
 }
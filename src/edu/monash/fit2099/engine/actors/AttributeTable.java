@@ -0,0 +1,71 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actors.attributes.IntActorAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The attributes of an Actor, looked up without hashing.
+ * <p>
+ * Each enum type used to name attributes gets an array indexed by ordinal. Actors only use a couple of
+ * such types (e.g. BaseActorAttributes and a game's own), so finding the array is a short scan.
+ */
+final class AttributeTable {
+	private Class<?>[] types = new Class<?>[0];
+	private IntActorAttribute[][] tables = new IntActorAttribute[0][];
+
+	/**
+	 * Returns the attribute with the given name.
+	 *
+	 * @param name the name of the attribute
+	 * @return the attribute, or null if there isn't one with that name
+	 */
+	IntActorAttribute get(Enum<?> name) {
+		Class<?> type = name.getDeclaringClass();
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] == type)
+				return tables[i][name.ordinal()];
+		}
+		return null;
+	}
+
+	/**
+	 * Add an attribute, replacing any with the same name.
+	 *
+	 * @param name      the name of the attribute
+	 * @param attribute the attribute
+	 */
+	void put(Enum<?> name, IntActorAttribute attribute) {
+		Class<?> type = name.getDeclaringClass();
+		int index = 0;
+		while (index < types.length && types[index] != type)
+			index++;
+
+		if (index == types.length) {
+			types = Arrays.copyOf(types, index + 1);
+			tables = Arrays.copyOf(tables, index + 1);
+			types[index] = type;
+			tables[index] = new IntActorAttribute[type.getEnumConstants().length];
+		}
+		tables[index][name.ordinal()] = attribute;
+	}
+
+	/**
+	 * Returns the names of all the attributes, grouped by enum type in the order the types were first used.
+	 *
+	 * @return a new list of the names
+	 */
+	List<Enum<?>> names() {
+		List<Enum<?>> names = new ArrayList<>();
+		for (int i = 0; i < types.length; i++) {
+			Object[] constants = types[i].getEnumConstants();
+			for (int ordinal = 0; ordinal < tables[i].length; ordinal++) {
+				if (tables[i][ordinal] != null)
+					names.add((Enum<?>) constants[ordinal]);
+			}
+		}
+		return names;
+	}
+}
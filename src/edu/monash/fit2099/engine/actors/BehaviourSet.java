@@ -0,0 +1,127 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of Behaviours, each in its own priority slot, kept in priority order.
+ * Lower numbers are higher priorities.
+ * <p>
+ * Behaviours are kept in arrays sorted by priority, so asking them for an Action in order doesn't
+ * allocate, and putting a new Behaviour in a slot that is already filled just replaces it.
+ * Actors typically consult this in {@link Actor#playTurn} with {@link #getAction(Actor, GameMap)}.
+ */
+public class BehaviourSet implements Iterable<Behaviour> {
+	private int[] priorities = new int[4];
+	private Behaviour[] behaviours = new Behaviour[4];
+	private int size = 0;
+
+	/**
+	 * Put a Behaviour in a priority slot, replacing any Behaviour already there.
+	 *
+	 * @param priority  the priority of the Behaviour; lower numbers are consulted first
+	 * @param behaviour the Behaviour
+	 */
+	public void put(int priority, Behaviour behaviour) {
+		int index = Arrays.binarySearch(priorities, 0, size, priority);
+		if (index >= 0) {
+			behaviours[index] = behaviour;
+			return;
+		}
+
+		int insertAt = -(index + 1);
+		if (size == priorities.length) {
+			priorities = Arrays.copyOf(priorities, size * 2);
+			behaviours = Arrays.copyOf(behaviours, size * 2);
+		}
+		System.arraycopy(priorities, insertAt, priorities, insertAt + 1, size - insertAt);
+		System.arraycopy(behaviours, insertAt, behaviours, insertAt + 1, size - insertAt);
+		priorities[insertAt] = priority;
+		behaviours[insertAt] = behaviour;
+		size++;
+	}
+
+	/**
+	 * Add a Behaviour with a lower priority than all those already here.
+	 *
+	 * @param behaviour the Behaviour
+	 */
+	public void add(Behaviour behaviour) {
+		put(size == 0 ? 0 : priorities[size - 1] + 1, behaviour);
+	}
+
+	/**
+	 * Returns the Behaviour in a priority slot.
+	 *
+	 * @param priority the priority slot
+	 * @return the Behaviour there, or null if the slot is empty
+	 */
+	public Behaviour get(int priority) {
+		int index = Arrays.binarySearch(priorities, 0, size, priority);
+		return index >= 0 ? behaviours[index] : null;
+	}
+
+	/**
+	 * Empty a priority slot.
+	 *
+	 * @param priority the priority slot
+	 */
+	public void remove(int priority) {
+		int index = Arrays.binarySearch(priorities, 0, size, priority);
+		if (index < 0)
+			return;
+
+		System.arraycopy(priorities, index + 1, priorities, index, size - index - 1);
+		System.arraycopy(behaviours, index + 1, behaviours, index, size - index - 1);
+		behaviours[--size] = null;
+	}
+
+	/**
+	 * @return the number of Behaviours in this set
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Ask each Behaviour in priority order for an Action, and return the first one offered.
+	 *
+	 * @param actor the Actor acting
+	 * @param map   the GameMap containing the Actor
+	 * @return the Action from the highest priority Behaviour that offers one, or null if none do
+	 */
+	public Action getAction(Actor actor, GameMap map) {
+		for (int i = 0; i < size; i++) {
+			Action action = behaviours[i].getAction(actor, map);
+			if (action != null)
+				return action;
+		}
+		return null;
+	}
+
+	/**
+	 * Iterates over the Behaviours in priority order, highest priority first.
+	 */
+	@Override
+	public Iterator<Behaviour> iterator() {
+		return new Iterator<Behaviour>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < size;
+			}
+
+			@Override
+			public Behaviour next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return behaviours[next++];
+			}
+		};
+	}
+}
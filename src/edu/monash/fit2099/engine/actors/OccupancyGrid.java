@@ -0,0 +1,194 @@
+package edu.monash.fit2099.engine.actors;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A dense record of which Actor (if any) stands on each cell of a GameMap.
+ * <p>
+ * Cells are stored row by row in a flat array (index = y * width + x), so looking up the occupant
+ * of a Location is a single array load rather than a hash of the Location.
+ * <p>
+ * The grid also counts how many Actors stand in each {@value #BLOCK_SIZE}x{@value #BLOCK_SIZE} block
+ * of cells. Searches for Actors in an area skip blocks with nobody in them, so they cost about the
+ * number of occupied blocks they overlap rather than the number of cells, however large the area.
+ * <p>
+ * Only {@link ActorLocationsIterator} may change the grid; everything else can only read it.
+ */
+public class OccupancyGrid {
+	/**
+	 * The width and height of a block of cells, in cells
+	 */
+	public static final int BLOCK_SIZE = 8;
+	private static final int BLOCK_SHIFT = 3;
+
+	private final int width;
+	private final int height;
+	private final Actor[] occupants;
+	private final int blockColumns;
+	private final int blockRows;
+	/**
+	 * How many Actors stand in each block, row by row
+	 */
+	private final int[] blockCounts;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param width  width of the map, in cells
+	 * @param height height of the map, in cells
+	 */
+	public OccupancyGrid(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.occupants = new Actor[width * height];
+		this.blockColumns = (width + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+		this.blockRows = (height + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+		this.blockCounts = new int[blockColumns * blockRows];
+	}
+
+	/**
+	 * Returns the Actor standing at the given coordinates.
+	 *
+	 * @param x X coordinate
+	 * @param y Y coordinate
+	 * @return the Actor at (x, y), or null if there isn't one
+	 */
+	public Actor get(int x, int y) {
+		return occupants[slot(x, y)];
+	}
+
+	/**
+	 * Record the Actor standing at the given coordinates.
+	 *
+	 * @param x     X coordinate
+	 * @param y     Y coordinate
+	 * @param actor the Actor now at (x, y), or null to clear the cell
+	 */
+	void set(int x, int y, Actor actor) {
+		int slot = slot(x, y);
+		Actor previous = occupants[slot];
+		occupants[slot] = actor;
+		if (previous == null && actor != null)
+			blockCounts[block(x, y)]++;
+		else if (previous != null && actor == null)
+			blockCounts[block(x, y)]--;
+	}
+
+	/**
+	 * Do something with each Actor standing in a rectangle of cells, row by row from the top left.
+	 * The rectangle is clipped to the grid.
+	 *
+	 * @param minX   the left edge of the rectangle
+	 * @param minY   the top edge of the rectangle
+	 * @param maxX   the right edge of the rectangle (inclusive)
+	 * @param maxY   the bottom edge of the rectangle (inclusive)
+	 * @param action what to do with each Actor
+	 */
+	public void forEachIn(int minX, int minY, int maxX, int maxY, Consumer<? super Actor> action) {
+		minX = Math.max(minX, 0);
+		minY = Math.max(minY, 0);
+		maxX = Math.min(maxX, width - 1);
+		maxY = Math.min(maxY, height - 1);
+		if (minX > maxX || minY > maxY)
+			return;
+
+		for (int blockY = minY >> BLOCK_SHIFT; blockY <= maxY >> BLOCK_SHIFT; blockY++) {
+			int fromY = Math.max(minY, blockY << BLOCK_SHIFT);
+			int toY = Math.min(maxY, (blockY << BLOCK_SHIFT) + BLOCK_SIZE - 1);
+			for (int y = fromY; y <= toY; y++) {
+				for (int blockX = minX >> BLOCK_SHIFT; blockX <= maxX >> BLOCK_SHIFT; blockX++) {
+					if (blockCounts[blockY * blockColumns + blockX] == 0)
+						continue;
+					int fromX = Math.max(minX, blockX << BLOCK_SHIFT);
+					int toX = Math.min(maxX, (blockX << BLOCK_SHIFT) + BLOCK_SIZE - 1);
+					for (int x = fromX; x <= toX; x++) {
+						Actor actor = occupants[slot(x, y)];
+						if (actor != null)
+							action.accept(actor);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Find the Actor nearest to a cell that passes a test, not counting any Actor on the cell itself.
+	 * Distance is the number of steps between cells when diagonal steps are allowed, i.e. the larger
+	 * of the X and Y differences. Of Actors equally near, the first found wins.
+	 * <p>
+	 * The search works outwards in rings of blocks, and stops as soon as no block further out could
+	 * hold anything nearer than the best Actor found so far.
+	 *
+	 * @param x         X coordinate of the cell to search from
+	 * @param y         Y coordinate of the cell to search from
+	 * @param maxRadius ignore Actors more than this many steps away
+	 * @param test      which Actors to consider
+	 * @return the nearest such Actor, or null if there isn't one within maxRadius
+	 */
+	public Actor nearest(int x, int y, int maxRadius, Predicate<? super Actor> test) {
+		int centreX = x >> BLOCK_SHIFT;
+		int centreY = y >> BLOCK_SHIFT;
+		int maxRing = Math.max(Math.max(centreX, blockColumns - 1 - centreX), Math.max(centreY, blockRows - 1 - centreY));
+		Actor best = null;
+		int bestDistance = Integer.MAX_VALUE;
+
+		for (int ring = 0; ring <= maxRing; ring++) {
+			// Cells in this ring are at least this far away
+			int nearestPossible = ring == 0 ? 1 : (ring - 1) * BLOCK_SIZE + 1;
+			if (nearestPossible > maxRadius || nearestPossible >= bestDistance)
+				break;
+
+			for (int blockY = centreY - ring; blockY <= centreY + ring; blockY++) {
+				if (blockY < 0 || blockY >= blockRows)
+					continue;
+				boolean edgeRow = blockY == centreY - ring || blockY == centreY + ring;
+				int step = edgeRow ? 1 : 2 * ring;
+				for (int blockX = centreX - ring; blockX <= centreX + ring; blockX += step) {
+					if (blockX < 0 || blockX >= blockColumns || blockCounts[blockY * blockColumns + blockX] == 0)
+						continue;
+
+					int fromX = blockX << BLOCK_SHIFT;
+					int fromY = blockY << BLOCK_SHIFT;
+					int toX = Math.min(width, fromX + BLOCK_SIZE);
+					int toY = Math.min(height, fromY + BLOCK_SIZE);
+					for (int cellY = fromY; cellY < toY; cellY++) {
+						for (int cellX = fromX; cellX < toX; cellX++) {
+							Actor actor = occupants[slot(cellX, cellY)];
+							if (actor == null || (cellX == x && cellY == y))
+								continue;
+							int distance = Math.max(Math.abs(cellX - x), Math.abs(cellY - y));
+							if (distance < bestDistance && distance <= maxRadius && test.test(actor)) {
+								best = actor;
+								bestDistance = distance;
+							}
+						}
+					}
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @return the width of the grid, in cells
+	 */
+	public int width() {
+		return width;
+	}
+
+	/**
+	 * @return the height of the grid, in cells
+	 */
+	public int height() {
+		return height;
+	}
+
+	private int slot(int x, int y) {
+		return y * width + x;
+	}
+
+	private int block(int x, int y) {
+		return (y >> BLOCK_SHIFT) * blockColumns + (x >> BLOCK_SHIFT);
+	}
+}
@@ -0,0 +1,23 @@
+package edu.monash.fit2099.engine.actors;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.positions.GameMap;
+
+/**
+ * An ActionSelector that picks uniformly at random from the available Actions.
+ *
+ * Multi-turn Actions are honoured: if the last Action has a next Action, that is chosen instead.
+ * The choice is drawn from the Actor's own {@link Actor#getRandom() random numbers}, so seeding the
+ * World seeds the choices too.
+ */
+public class RandomActionSelector implements ActionSelector {
+
+	@Override
+	public Action select(Actor actor, ActionList actions, Action lastAction, GameMap map) {
+		if (lastAction.getNextAction() != null)
+			return lastAction.getNextAction();
+
+		return actions.get(actor.getRandom().nextInt(actions.size()));
+	}
+}
@@ -0,0 +1,150 @@
+package edu.monash.fit2099.engine.actors;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+/**
+ * The order in which Actors take their turns.
+ * <p>
+ * Actors are kept in an array in the order they joined. Removing an Actor only marks its slot as
+ * vacant (a tombstone), and Actors that join are appended to the end, so neither operation disturbs
+ * an iteration that is already under way. Vacant slots are squeezed out once they outnumber the
+ * occupied ones; this builds a fresh array, so iterators already running keep walking the old one.
+ * <p>
+ * Iterating visits the player first, then every other Actor that was present when the iteration began
+ * and is still present when its turn comes up. Actors that join mid-iteration wait for the next one.
+ * A full iteration is O(n) in the number of Actors.
+ */
+class TurnOrder implements Iterable<Actor> {
+	private static final int MINIMUM_CAPACITY = 16;
+
+	private Slot[] slots = new Slot[MINIMUM_CAPACITY];
+	private int size = 0;
+	private int vacancies = 0;
+	private Actor player;
+
+	/**
+	 * Identify the Actor that always goes first.
+	 *
+	 * @param player the player
+	 */
+	void setPlayer(Actor player) {
+		this.player = player;
+	}
+
+	/**
+	 * Append an Actor to the end of the turn order.
+	 *
+	 * @param actor the Actor joining
+	 */
+	void add(Actor actor) {
+		if (size == slots.length)
+			slots = Arrays.copyOf(slots, size * 2);
+
+		Slot slot = new Slot(actor);
+		slots[size++] = slot;
+		actor.turnSlot = slot;
+	}
+
+	/**
+	 * Vacate an Actor's place in the turn order.
+	 *
+	 * @param actor the Actor leaving
+	 */
+	void remove(Actor actor) {
+		Slot slot = actor.turnSlot;
+		if (slot == null)
+			return;
+
+		slot.vacant = true;
+		actor.turnSlot = null;
+		vacancies++;
+		if (vacancies > MINIMUM_CAPACITY && vacancies > size - vacancies)
+			compact();
+	}
+
+	/**
+	 * Replace the slot array with one holding only occupied slots.
+	 */
+	private void compact() {
+		Slot[] compacted = new Slot[Math.max(MINIMUM_CAPACITY, (size - vacancies) * 2)];
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (!slots[i].vacant)
+				compacted[count++] = slots[i];
+		}
+		slots = compacted;
+		size = count;
+		vacancies = 0;
+	}
+
+	@Override
+	public Iterator<Actor> iterator() {
+		return new TurnIterator();
+	}
+
+	/**
+	 * An Actor's place in the turn order. Shared between every slot array it appears in,
+	 * so vacating it is seen by all iterators.
+	 */
+	static final class Slot {
+		private final Actor actor;
+		private boolean vacant = false;
+
+		private Slot(Actor actor) {
+			this.actor = actor;
+		}
+	}
+
+	/**
+	 * Walks a snapshot of the slot array (its contents up to the current size), player first.
+	 */
+	private class TurnIterator implements Iterator<Actor> {
+		private final Slot[] snapshot = slots;
+		private final int end = size;
+		private final Slot playerSlot;
+		private boolean playerVisited = false;
+		private int cursor = 0;
+
+		TurnIterator() {
+			playerSlot = player == null ? null : player.turnSlot;
+		}
+
+		/**
+		 * @see Iterator#hasNext()
+		 * @return true if there is another Actor that needs to take a turn, false otherwise
+		 */
+		@Override
+		public boolean hasNext() {
+			if (playerPending())
+				return true;
+
+			while (cursor < end && (snapshot[cursor].vacant || snapshot[cursor] == playerSlot))
+				cursor++;
+			return cursor < end;
+		}
+
+		/**
+		 * @see Iterator#next()
+		 */
+		@Override
+		public Actor next() {
+			if (playerPending()) {
+				playerVisited = true;
+				return playerSlot.actor;
+			}
+
+			if (!hasNext())
+				throw new ConcurrentModificationException();
+			return snapshot[cursor++].actor;
+		}
+
+		/**
+		 * @return true if the player was present when iteration began, still is, and hasn't been visited yet
+		 */
+		private boolean playerPending() {
+			return !playerVisited && playerSlot != null && !playerSlot.vacant;
+		}
+	}
+}
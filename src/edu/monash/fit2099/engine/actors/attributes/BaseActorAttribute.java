@@ -3,7 +3,7 @@ package edu.monash.fit2099.engine.actors.attributes;
 /**
  * A class that represents a basic attribute of an actor, such as health.
  */
-public class BaseActorAttribute implements ActorAttribute<Integer> {
+public class BaseActorAttribute implements IntActorAttribute {
     private int maximumPoints;
     private int points;
 
@@ -22,7 +22,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to overwrite the current points of the attribute
      */
     @Override
-    public void update(Integer points) {
+    public void update(int points) {
         this.points = Math.min(points, maximumPoints);
     }
 
@@ -32,7 +32,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to increase the current points of the attribute
      */
     @Override
-    public void increase(Integer points) {
+    public void increase(int points) {
         this.points += points;
         this.points = Math.min(this.points, maximumPoints);
     }
@@ -44,7 +44,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to decrease the current points of the attribute
      */
     @Override
-    public void decrease(Integer points) {
+    public void decrease(int points) {
         this.points -= points;
         this.points = Math.max(this.points, 0);
     }
@@ -54,7 +54,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @return the current points of the attribute
      */
     @Override
-    public Integer get() {
+    public int getAsInt() {
         return points;
     }
 
@@ -63,7 +63,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @return the maximum points of the attribute
      */
     @Override
-    public Integer getMaximum() {
+    public int getMaximumAsInt() {
         return maximumPoints;
     }
 
@@ -72,7 +72,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to overwrite the current maximum points of the attribute
      */
     @Override
-    public void updateMaximum(Integer points) {
+    public void updateMaximum(int points) {
         this.maximumPoints = points;
         this.points = maximumPoints;
     }
@@ -83,7 +83,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to increase the current maximum points of the attribute
      */
     @Override
-    public void increaseMaximum(Integer points) {
+    public void increaseMaximum(int points) {
         this.maximumPoints += points;
         this.points = maximumPoints;
     }
@@ -94,7 +94,7 @@ public class BaseActorAttribute implements ActorAttribute<Integer> {
      * @param points the points to decrease the current maximum points of the attribute
      */
     @Override
-    public void decreaseMaximum(Integer points) {
+    public void decreaseMaximum(int points) {
         this.maximumPoints -= points;
         this.points = Math.min(this.points, maximumPoints);
     }
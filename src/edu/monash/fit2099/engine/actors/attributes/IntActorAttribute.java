@@ -0,0 +1,158 @@
+package edu.monash.fit2099.engine.actors.attributes;
+
+/**
+ * An attribute of an actor whose points are plain ints.
+ * <p>
+ * Actors read and change their attributes through the int methods, so that hurting, healing and
+ * checking an actor don't box anything. The boxed methods of {@link ActorAttribute} are implemented
+ * in terms of them, so an IntActorAttribute can be used anywhere an {@code ActorAttribute<Integer>} can.
+ */
+public interface IntActorAttribute extends ActorAttribute<Integer> {
+    /**
+     * Overwrites the current points of the attribute with the given points.
+     * @param points the points to overwrite the current points of the attribute
+     */
+    void update(int points);
+
+    /**
+     * Increases the current points of the attribute by the given points.
+     * @param points the points to increase the current points of the attribute
+     */
+    void increase(int points);
+
+    /**
+     * Decreases the current points of the attribute by the given points.
+     * @param points the points to decrease the current points of the attribute
+     */
+    void decrease(int points);
+
+    /**
+     * Getter for the current points of the attribute.
+     * @return the current points of the attribute
+     */
+    int getAsInt();
+
+    /**
+     * Getter for the maximum points of the attribute.
+     * @return the maximum points of the attribute
+     */
+    default int getMaximumAsInt() {
+        return getAsInt();
+    }
+
+    /**
+     * Overwrites the current maximum points of the attribute with the given points.
+     * @param points the points to overwrite the current maximum points of the attribute
+     */
+    default void updateMaximum(int points) {
+        update(points);
+    }
+
+    /**
+     * Increases the current maximum points of the attribute by the given points.
+     * @param points the points to increase the current maximum points of the attribute
+     */
+    default void increaseMaximum(int points) {
+        increase(points);
+    }
+
+    /**
+     * Decreases the current maximum points of the attribute by the given points.
+     * @param points the points to decrease the current maximum points of the attribute
+     */
+    default void decreaseMaximum(int points) {
+        decrease(points);
+    }
+
+    @Override
+    default void update(Integer points) {
+        update(points.intValue());
+    }
+
+    @Override
+    default void increase(Integer points) {
+        increase(points.intValue());
+    }
+
+    @Override
+    default void decrease(Integer points) {
+        decrease(points.intValue());
+    }
+
+    @Override
+    default Integer get() {
+        return getAsInt();
+    }
+
+    @Override
+    default Integer getMaximum() {
+        return getMaximumAsInt();
+    }
+
+    @Override
+    default void updateMaximum(Integer points) {
+        updateMaximum(points.intValue());
+    }
+
+    @Override
+    default void increaseMaximum(Integer points) {
+        increaseMaximum(points.intValue());
+    }
+
+    @Override
+    default void decreaseMaximum(Integer points) {
+        decreaseMaximum(points.intValue());
+    }
+
+    /**
+     * Returns an attribute as an IntActorAttribute, wrapping it if it isn't one already.
+     * @param attribute the attribute
+     * @return the attribute itself, or an IntActorAttribute that passes everything on to it
+     */
+    static IntActorAttribute of(ActorAttribute<Integer> attribute) {
+        if (attribute instanceof IntActorAttribute)
+            return (IntActorAttribute) attribute;
+
+        return new IntActorAttribute() {
+            @Override
+            public void update(int points) {
+                attribute.update(points);
+            }
+
+            @Override
+            public void increase(int points) {
+                attribute.increase(points);
+            }
+
+            @Override
+            public void decrease(int points) {
+                attribute.decrease(points);
+            }
+
+            @Override
+            public int getAsInt() {
+                return attribute.get();
+            }
+
+            @Override
+            public int getMaximumAsInt() {
+                return attribute.getMaximum();
+            }
+
+            @Override
+            public void updateMaximum(int points) {
+                attribute.updateMaximum(points);
+            }
+
+            @Override
+            public void increaseMaximum(int points) {
+                attribute.increaseMaximum(points);
+            }
+
+            @Override
+            public void decreaseMaximum(int points) {
+                attribute.decreaseMaximum(points);
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package edu.monash.fit2099.engine.capabilities;
+
+import java.util.Arrays;
+
+/**
+ * Counts, for each capability, how many of a group of CapabilitySets have it.
+ * <p>
+ * The counts are kept up to date as capabilities are added to and removed from the sets in the group,
+ * so asking whether any of them has a capability is a single bit test however many sets there are.
+ * An Actor uses one of these to know what the items in its inventory provide.
+ * <p>
+ * A set can be added more than once, in which case it is counted once for each time, and must be
+ * removed as many times.
+ */
+public class CapabilityCounter {
+	/**
+	 * How many sets in the group have each capability, by bit number
+	 */
+	private int[] counts = new int[64];
+	/**
+	 * One bit per capability that at least one set in the group has
+	 */
+	private long[] words = new long[1];
+
+	/**
+	 * Check if any set in the group has a capability
+	 * @param capability enum
+	 * @return true if at least one of the sets has the capability, false otherwise
+	 */
+	public boolean hasCapability(Enum<?> capability) {
+		int bit = CapabilityIndex.bitOf(capability);
+		int word = bit >>> 6;
+		return word < words.length && (words[word] & (1L << bit)) != 0;
+	}
+
+	/**
+	 * Add a set to the group. Its capabilities are counted now and whenever they change.
+	 * @param capabilities the set to add
+	 */
+	public void add(CapabilitySet capabilities) {
+		capabilities.watch(this);
+		capabilities.forEachBit(this::increment);
+	}
+
+	/**
+	 * Remove a set from the group, uncounting its capabilities.
+	 * @param capabilities the set to remove, which must have been added
+	 */
+	public void remove(CapabilitySet capabilities) {
+		if (capabilities.unwatch(this))
+			capabilities.forEachBit(this::decrement);
+	}
+
+	/**
+	 * Returns the capabilities that any set in the group, or another set, has, as bits.
+	 * Trailing zero words are dropped, so two results can be compared with {@link Arrays#equals(long[], long[])}.
+	 * @param capabilities the other set
+	 * @return a new array with one bit per capability, by bit number
+	 */
+	public long[] bitsWith(CapabilitySet capabilities) {
+		long[] other = capabilities.words();
+		long[] bits = Arrays.copyOf(words, Math.max(words.length, other.length));
+		for (int i = 0; i < other.length; i++) {
+			bits[i] |= other[i];
+		}
+		int length = bits.length;
+		while (length > 0 && bits[length - 1] == 0)
+			length--;
+		return length == bits.length ? bits : Arrays.copyOf(bits, length);
+	}
+
+	/**
+	 * Check if the capabilities that any set in the group, or another set, has are exactly the given ones,
+	 * without building them as {@link #bitsWith(CapabilitySet)} does.
+	 * @param capabilities the other set
+	 * @param bits         one bit per capability, by bit number, e.g. from bitsWith
+	 * @return true if bitsWith would return an array with the same bits
+	 */
+	public boolean bitsWithEqual(CapabilitySet capabilities, long[] bits) {
+		long[] other = capabilities.words();
+		int length = Math.max(Math.max(words.length, other.length), bits.length);
+		for (int i = 0; i < length; i++) {
+			long word = (i < words.length ? words[i] : 0) | (i < other.length ? other[i] : 0);
+			if (word != (i < bits.length ? bits[i] : 0))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Count one more set with the capability at a bit.
+	 * @param bit the capability's bit number
+	 */
+	void increment(int bit) {
+		if (bit >= counts.length)
+			counts = Arrays.copyOf(counts, Math.max(bit + 1, counts.length * 2));
+		if (counts[bit]++ == 0) {
+			int word = bit >>> 6;
+			if (word >= words.length)
+				words = Arrays.copyOf(words, word + 1);
+			words[word] |= 1L << bit;
+		}
+	}
+
+	/**
+	 * Count one fewer set with the capability at a bit.
+	 * @param bit the capability's bit number
+	 */
+	void decrement(int bit) {
+		if (--counts[bit] == 0)
+			words[bit >>> 6] &= ~(1L << bit);
+	}
+}
@@ -0,0 +1,116 @@
+package edu.monash.fit2099.engine.capabilities;
+
+import java.util.Arrays;
+
+/**
+ * Gives every capability a bit number, so that sets of capabilities can be kept as bitsets.
+ * <p>
+ * The first time an enum type is used as a capability it is given a block of consecutive bits,
+ * one per constant, and each constant's bit is the start of the block plus its ordinal.
+ * The bits of all the capabilities in a small game fit in a single long.
+ */
+final class CapabilityIndex {
+	private static int nextBit = 0;
+	/**
+	 * The capability each bit stands for. Replaced rather than updated, so it can be read without locking.
+	 */
+	private static volatile Enum<?>[] capabilities = new Enum<?>[0];
+	/**
+	 * The block looked up most recently. Capabilities tend to be checked over and over for the same few
+	 * types, and comparing the type here is quicker than looking it up again.
+	 */
+	private static Block lastBlock = new Block(null, 0, new Enum<?>[0]);
+
+	private static final ClassValue<Block> BLOCKS = new ClassValue<Block>() {
+		@Override
+		protected Block computeValue(Class<?> type) {
+			Object[] constants = type.getEnumConstants();
+			return allocate(type, constants == null ? new Enum<?>[0] : (Enum<?>[]) constants);
+		}
+	};
+
+	private CapabilityIndex() {
+	}
+
+	private static synchronized Block allocate(Class<?> type, Enum<?>[] constants) {
+		Block block = new Block(type, nextBit, constants);
+		Enum<?>[] grown = Arrays.copyOf(capabilities, nextBit + constants.length);
+		System.arraycopy(constants, 0, grown, nextBit, constants.length);
+		nextBit += constants.length;
+		capabilities = grown;
+		return block;
+	}
+
+	/**
+	 * Returns the bit number of a capability.
+	 *
+	 * @param capability the capability
+	 * @return its bit number
+	 */
+	static int bitOf(Enum<?> capability) {
+		Class<?> type = capability.getDeclaringClass();
+		Block block = lastBlock;
+		if (block.type != type) {
+			block = BLOCKS.get(type);
+			lastBlock = block;
+		}
+		return block.start + capability.ordinal();
+	}
+
+	/**
+	 * Returns the capability a bit stands for.
+	 *
+	 * @param bit a bit number that has been given out by {@link #bitOf(Enum)}
+	 * @return the capability
+	 */
+	static Enum<?> capabilityAt(int bit) {
+		return capabilities[bit];
+	}
+
+	/**
+	 * Returns the block of bits used by an enum type.
+	 *
+	 * @param type the enum type
+	 * @return its block of bits, which is empty if type isn't an enum
+	 */
+	static Block blockOf(Class<?> type) {
+		return BLOCKS.get(type);
+	}
+
+	/**
+	 * The consecutive bits used by one enum type.
+	 */
+	static final class Block {
+		final Class<?> type;
+		final int start;
+		final Enum<?>[] constants;
+
+		private Block(Class<?> type, int start, Enum<?>[] constants) {
+			this.type = type;
+			this.start = start;
+			this.constants = constants;
+		}
+
+		/**
+		 * @return the bit after the last bit of this block
+		 */
+		int end() {
+			return start + constants.length;
+		}
+
+		/**
+		 * Returns a mask of the bits of this block that fall in a given word of a bitset.
+		 *
+		 * @param word the index of the word
+		 * @return the mask, which is 0 if none of this block is in that word
+		 */
+		long mask(int word) {
+			int low = Math.max(start - (word << 6), 0);
+			int high = Math.min(end() - (word << 6), 64);
+			if (low >= high)
+				return 0;
+			long belowHigh = high == 64 ? -1L : (1L << high) - 1;
+			return belowHigh & (-1L << low);
+		}
+	}
+}
@@ -1,9 +1,10 @@
 package edu.monash.fit2099.engine.capabilities;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.IntConsumer;
 
 /**
  * A collection of Capability objects.
@@ -13,12 +14,24 @@ import java.util.stream.Collectors;
  * Don't be too literal about the name. You can keep all sorts of things in here.
  * PURPLE, FLAT, HOUSE_RAVENCLAW, TEAM_HERBIVORE, etc.  
  * Any Enum type can be used to represent a Capability, so these classes can and should be defined in the game client.
+ * <p>
+ * Capabilities are kept as a bitset, with one bit for each constant of each enum type used as a capability,
+ * so checking, adding and removing them are single bit operations.
  */
 public class CapabilitySet {
 	/**
-	 * The set of capability (uniques only)
+	 * The set of capability (uniques only), one bit per capability
 	 */
-	private final Set<Enum<?>> capabilitySet = new HashSet<>();
+	private long[] words = new long[1];
+	/**
+	 * The last list returned by {@link #capabilitiesList()}, or null if the set has changed since
+	 */
+	private List<Enum<?>> snapshot = Collections.emptyList();
+	/**
+	 * The counters this set is part of, told whenever a capability is added or removed. Usually none.
+	 */
+	private CapabilityCounter[] counters = NO_COUNTERS;
+	private static final CapabilityCounter[] NO_COUNTERS = new CapabilityCounter[0];
 
 	/**
 	 * Check if this instance has capability
@@ -26,7 +39,9 @@ public class CapabilitySet {
 	 * @return true if it has the capability, false otherwise
 	 */
 	public boolean hasCapability(Enum<?> capability) {
-		return capabilitySet.contains(capability);
+		int bit = CapabilityIndex.bitOf(capability);
+		int word = bit >>> 6;
+		return word < words.length && (words[word] & (1L << bit)) != 0;
 	}
 
 	/**
@@ -34,8 +49,15 @@ public class CapabilitySet {
 	 * @param capability enum
 	 */
 	public void addCapability(Enum<?> capability) {
-		if(!hasCapability(capability)){
-			capabilitySet.add(capability);
+		int bit = CapabilityIndex.bitOf(capability);
+		int word = bit >>> 6;
+		if (word >= words.length)
+			words = Arrays.copyOf(words, word + 1);
+		if ((words[word] & (1L << bit)) == 0) {
+			words[word] |= 1L << bit;
+			snapshot = null;
+			for (CapabilityCounter counter : counters)
+				counter.increment(bit);
 		}
 	}
 
@@ -44,17 +66,73 @@ public class CapabilitySet {
 	 * @param capability enum
 	 */
 	public void removeCapability(Enum<?> capability) {
-		if(hasCapability(capability)){
-			capabilitySet.remove(capability);
+		int bit = CapabilityIndex.bitOf(capability);
+		int word = bit >>> 6;
+		if (word < words.length && (words[word] & (1L << bit)) != 0) {
+			words[word] &= ~(1L << bit);
+			snapshot = null;
+			for (CapabilityCounter counter : counters)
+				counter.decrement(bit);
+		}
+	}
+
+	/**
+	 * Tell a counter about every change to this set from now on.
+	 * @param counter the counter
+	 */
+	void watch(CapabilityCounter counter) {
+		counters = Arrays.copyOf(counters, counters.length + 1);
+		counters[counters.length - 1] = counter;
+	}
+
+	/**
+	 * Stop telling a counter about changes to this set (once, if it was watching more than once).
+	 * @param counter the counter
+	 * @return true if the counter was watching this set
+	 */
+	boolean unwatch(CapabilityCounter counter) {
+		for (int i = 0; i < counters.length; i++) {
+			if (counters[i] == counter) {
+				CapabilityCounter[] remaining = Arrays.copyOf(counters, counters.length - 1);
+				System.arraycopy(counters, i + 1, remaining, i, counters.length - i - 1);
+				counters = remaining.length == 0 ? NO_COUNTERS : remaining;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the bits of this set, which must not be changed
+	 */
+	long[] words() {
+		return words;
+	}
+
+	/**
+	 * Do something with the bit number of every capability in this set.
+	 * @param action what to do with each bit number
+	 */
+	void forEachBit(IntConsumer action) {
+		for (int word = 0; word < words.length; word++) {
+			for (long bits = words[word]; bits != 0; bits &= bits - 1) {
+				action.accept((word << 6) + Long.numberOfTrailingZeros(bits));
+			}
 		}
 	}
 
 	/**
-	 * Get unmodifiable capabilities list to avoid privacy leak
+	 * Get unmodifiable capabilities list to avoid privacy leak.
+	 * The list is only rebuilt if the set has changed since it was last asked for.
 	 * @return unmodifiable list of capabilities
 	 */
 	public List<Enum<?>> capabilitiesList(){
-		return List.copyOf(capabilitySet);
+		if (snapshot == null) {
+			List<Enum<?>> capabilities = new ArrayList<>();
+			forEachBit(bit -> capabilities.add(CapabilityIndex.capabilityAt(bit)));
+			snapshot = Collections.unmodifiableList(capabilities);
+		}
+		return snapshot;
 	}
 
 	/**
@@ -65,9 +143,16 @@ public class CapabilitySet {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T extends Enum<?>> List<T> findCapabilitiesByType(Class<T> enumType){
-		return capabilitySet.stream()
-				.filter(c -> c.getDeclaringClass().equals(enumType))
-				.map(response -> (T) response)
-				.collect(Collectors.toList());
+		CapabilityIndex.Block block = CapabilityIndex.blockOf(enumType);
+		List<T> capabilities = null;
+		for (int word = block.start >>> 6; word < words.length && (word << 6) < block.end(); word++) {
+			for (long bits = words[word] & block.mask(word); bits != 0; bits &= bits - 1) {
+				if (capabilities == null)
+					capabilities = new ArrayList<>();
+				int bit = (word << 6) + Long.numberOfTrailingZeros(bits);
+				capabilities.add((T) block.constants[bit - block.start]);
+			}
+		}
+		return capabilities == null ? Collections.emptyList() : Collections.unmodifiableList(capabilities);
 	}
 }
@@ -0,0 +1,104 @@
+package edu.monash.fit2099.engine.displays;
+
+/**
+ * A Display for terminals that understand ANSI escape sequences.
+ * <p>
+ * The map is kept at a fixed place at the top of the screen, and everything else (results, menus)
+ * is printed in a scrolling region underneath it. This lets a GameMap redraw only the cells that
+ * changed since the last frame instead of reprinting the whole map every turn.
+ * <p>
+ * Output is buffered, so each frame (full or partial) is written out in one go.
+ *
+ * @see edu.monash.fit2099.engine.positions.GameMap#drawChanges(AnsiDisplay)
+ */
+public class AnsiDisplay extends BufferedDisplay {
+	private static final String ESCAPE = "\u001b[";
+	private static final int DEFAULT_SCREEN_ROWS = 24;
+
+	private final int screenRows;
+	/**
+	 * Whatever was drawn in the last full frame, so that a change of map forces another one.
+	 */
+	private Object lastFrame;
+
+	/**
+	 * Constructor for a standard 24-row terminal.
+	 */
+	public AnsiDisplay() {
+		this(DEFAULT_SCREEN_ROWS);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param screenRows the number of rows in the terminal
+	 */
+	public AnsiDisplay(int screenRows) {
+		if (screenRows <= 0)
+			throw new IllegalArgumentException("Screen must have at least one row");
+		this.screenRows = screenRows;
+	}
+
+	/**
+	 * Clear the screen and reserve the top rows for a frame, with the rest of the screen
+	 * scrolling independently underneath. The cursor is left at the top left of the frame.
+	 * <p>
+	 * A frame that doesn't leave room for the scrolling region can't be updated in place,
+	 * so it will never be reported as showing.
+	 *
+	 * @param frame      the thing about to be drawn, e.g. a GameMap
+	 * @param frameRows  the number of rows the frame occupies
+	 */
+	public void startFrame(Object frame, int frameRows) {
+		lastFrame = frameRows < screenRows ? frame : null;
+		print(ESCAPE + "r");   // reset any previous scrolling region
+		print(ESCAPE + "2J");  // clear the screen
+		if (frameRows < screenRows)
+			print(ESCAPE + (frameRows + 1) + ";" + screenRows + "r");
+		moveCursor(0, 0);
+	}
+
+	/**
+	 * Finish a full frame by moving the cursor to the scrolling region underneath it.
+	 *
+	 * @param frameRows the number of rows the frame occupies
+	 */
+	public void endFrame(int frameRows) {
+		moveCursor(Math.min(frameRows, screenRows - 1), 0);
+	}
+
+	/**
+	 * Whether the given thing was the subject of the last full frame, i.e. whether it is still on screen
+	 * and can be updated in place.
+	 *
+	 * @param frame the thing to check
+	 * @return true if frame can be updated in place
+	 */
+	public boolean isShowing(Object frame) {
+		return lastFrame == frame;
+	}
+
+	/**
+	 * Remember where the cursor is, so that drawing elsewhere doesn't disturb the scrolling text.
+	 */
+	public void saveCursor() {
+		print("\u001b7");
+	}
+
+	/**
+	 * Return the cursor to where it was at the last {@link #saveCursor()}.
+	 */
+	public void restoreCursor() {
+		print("\u001b8");
+	}
+
+	/**
+	 * Move the cursor to the given cell.
+	 *
+	 * @param row    the row, counting from 0 at the top of the screen
+	 * @param column the column, counting from 0 at the left of the screen
+	 */
+	public void moveCursor(int row, int column) {
+		print(ESCAPE + (row + 1) + ";" + (column + 1) + "H");
+	}
+}
@@ -0,0 +1,132 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A Display that composes output in memory and writes it out in one go.
+ * <p>
+ * Map cells and line breaks are collected in a reusable buffer, so a whole frame of the map
+ * reaches the console with a single write instead of one {@code System.out.print} per cell.
+ * The buffer is written out whenever a full line of text is printed, before reading from the keyboard,
+ * and whenever {@link #flush()} is called (GameMap does this after drawing itself).
+ * <p>
+ * Output goes to {@code System.out} by default, or to any WritableByteChannel, e.g. a FileChannel
+ * when the output is piped to a file.
+ */
+public class BufferedDisplay extends Display {
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private final StringBuilder buffer = new StringBuilder(4096);
+	private final WritableByteChannel channel;
+	private final CharsetEncoder encoder;
+	private ByteBuffer bytes;
+
+	/**
+	 * Constructor for a display that writes to {@code System.out}.
+	 */
+	public BufferedDisplay() {
+		this.channel = null;
+		this.encoder = null;
+	}
+
+	/**
+	 * Constructor for a display that writes UTF-8 to the given channel.
+	 *
+	 * @param channel where output is written
+	 */
+	public BufferedDisplay(WritableByteChannel channel) {
+		this.channel = channel;
+		this.encoder = StandardCharsets.UTF_8.newEncoder();
+		this.bytes = ByteBuffer.allocate(8192);
+	}
+
+	@Override
+	public void print(Printable printable) {
+		buffer.append(printable.getDisplayChar());
+	}
+
+	@Override
+	public void print(String s) {
+		buffer.append(s);
+	}
+
+	@Override
+	public void println(String s) {
+		buffer.append(s).append(LINE_SEPARATOR);
+		flush();
+	}
+
+	@Override
+	public void endLine() {
+		buffer.append(LINE_SEPARATOR);
+	}
+
+	/**
+	 * Make sure everything printed so far is visible before waiting on the keyboard.
+	 *
+	 * @return the first char of the next entered string.
+	 */
+	@Override
+	public char readChar() {
+		flush();
+		return super.readChar();
+	}
+
+	/**
+	 * Write out everything buffered so far with a single write, then empty the buffer for reuse.
+	 *
+	 * @throws UncheckedIOException if writing to the channel fails
+	 */
+	@Override
+	public void flush() {
+		if (buffer.length() == 0)
+			return;
+
+		if (channel == null) {
+			System.out.append(buffer);
+			System.out.flush();
+		} else {
+			writeToChannel();
+		}
+		buffer.setLength(0);
+	}
+
+	/**
+	 * Encode the buffer into the reusable byte buffer, writing it to the channel each time it fills up.
+	 */
+	private void writeToChannel() {
+		// Anything written straight to System.out must come out first, or the console would be out of order.
+		System.out.flush();
+		CharBuffer chars = CharBuffer.wrap(buffer);
+		encoder.reset();
+		try {
+			CoderResult result;
+			do {
+				result = encoder.encode(chars, bytes, true);
+				if (result.isError())
+					result.throwException();
+				drainBytes();
+			} while (result.isOverflow());
+			do {
+				result = encoder.flush(bytes);
+				drainBytes();
+			} while (result.isOverflow());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void drainBytes() throws IOException {
+		bytes.flip();
+		while (bytes.hasRemaining())
+			channel.write(bytes);
+		bytes.clear();
+	}
+}
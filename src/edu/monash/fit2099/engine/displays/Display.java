@@ -45,6 +45,13 @@ public class Display  {
 		System.out.println("");
 	}
 
+	/**
+	 * Make sure everything printed so far has reached the console.
+	 */
+	public void flush() {
+		System.out.flush();
+	}
+
 	/**
 	 * Read a char from the keyboard.
 	 * 
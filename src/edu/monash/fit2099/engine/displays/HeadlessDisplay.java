@@ -0,0 +1,67 @@
+package edu.monash.fit2099.engine.displays;
+
+import java.util.function.Consumer;
+
+/**
+ * A Display that never touches the console.
+ * <p>
+ * Map cells and line breaks are discarded, and every line passed to {@link #println(String)} is handed
+ * to a sink instead, so that unattended simulations are not bottlenecked on {@code System.out}.
+ * Since there is nobody at the keyboard, reading input is an error.
+ */
+public class HeadlessDisplay extends Display {
+
+	/**
+	 * A sink that throws every message away.
+	 */
+	public static final Consumer<String> DISCARD = message -> { };
+
+	private final Consumer<String> sink;
+
+	/**
+	 * Constructor for a display that discards all output.
+	 */
+	public HeadlessDisplay() {
+		this(DISCARD);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param sink where messages printed with {@link #println(String)} are sent
+	 */
+	public HeadlessDisplay(Consumer<String> sink) {
+		this.sink = sink;
+	}
+
+	@Override
+	public void print(Printable printable) {
+	}
+
+	@Override
+	public void print(String s) {
+	}
+
+	@Override
+	public void println(String s) {
+		sink.accept(s);
+	}
+
+	@Override
+	public void endLine() {
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	/**
+	 * Headless displays have no keyboard.
+	 *
+	 * @throws UnsupportedOperationException always
+	 */
+	@Override
+	public char readChar() {
+		throw new UnsupportedOperationException("A headless display cannot read input");
+	}
+}
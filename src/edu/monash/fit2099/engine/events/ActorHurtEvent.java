@@ -0,0 +1,29 @@
+package edu.monash.fit2099.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for an Actor taking damage. The stack trace shows what hurt it.
+ */
+@Name("edu.monash.fit2099.ActorHurt")
+@Label("Actor Hurt")
+@Category({"FIT2099", "Actors"})
+@Description("An Actor taking damage")
+public class ActorHurtEvent extends Event {
+	@Label("Actor")
+	public String actor;
+
+	@Label("Actor Class")
+	public Class<?> actorClass;
+
+	@Label("Damage")
+	public int damage;
+
+	@Label("Health")
+	@Description("The Actor's health after taking the damage")
+	public int health;
+}
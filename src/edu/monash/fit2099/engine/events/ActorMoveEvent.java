@@ -0,0 +1,39 @@
+package edu.monash.fit2099.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for an Actor moving from one Location to another, possibly on another map.
+ */
+@Name("edu.monash.fit2099.ActorMove")
+@Label("Actor Move")
+@Category({"FIT2099", "Actors"})
+@Description("An Actor moving to another Location")
+@StackTrace(false)
+public class ActorMoveEvent extends Event {
+	@Label("Actor")
+	public String actor;
+
+	@Label("From Map")
+	public String fromMap;
+
+	@Label("From X")
+	public int fromX;
+
+	@Label("From Y")
+	public int fromY;
+
+	@Label("To Map")
+	public String toMap;
+
+	@Label("To X")
+	public int toX;
+
+	@Label("To Y")
+	public int toY;
+}
@@ -0,0 +1,28 @@
+package edu.monash.fit2099.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for an Actor's turn, from assembling its Actions to executing the one it chose.
+ */
+@Name("edu.monash.fit2099.ActorTurn")
+@Label("Actor Turn")
+@Category({"FIT2099", "World"})
+@Description("An Actor choosing and executing an Action")
+@StackTrace(false)
+public class ActorTurnEvent extends Event {
+	@Label("Actor")
+	public String actor;
+
+	@Label("Actor Class")
+	public Class<?> actorClass;
+
+	@Label("Action Class")
+	@Description("The class of the Action the Actor chose")
+	public Class<?> actionClass;
+}
@@ -0,0 +1,29 @@
+package edu.monash.fit2099.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for an Actor falling unconscious.
+ */
+@Name("edu.monash.fit2099.ActorUnconscious")
+@Label("Actor Unconscious")
+@Category({"FIT2099", "Actors"})
+@Description("An Actor falling unconscious, at another Actor's hand or by natural causes")
+public class ActorUnconsciousEvent extends Event {
+	@Label("Actor")
+	public String actor;
+
+	@Label("Actor Class")
+	public Class<?> actorClass;
+
+	@Label("Perpetrator")
+	@Description("The Actor responsible, or null for natural causes")
+	public String perpetrator;
+
+	@Label("Map")
+	public String map;
+}
@@ -0,0 +1,33 @@
+package edu.monash.fit2099.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for the Ground at a Location being replaced, e.g. catching fire or burning out.
+ */
+@Name("edu.monash.fit2099.GroundChange")
+@Label("Ground Change")
+@Category({"FIT2099", "Maps"})
+@Description("The Ground at a Location being replaced")
+@StackTrace(false)
+public class GroundChangeEvent extends Event {
+	@Label("Map")
+	public String map;
+
+	@Label("X")
+	public int x;
+
+	@Label("Y")
+	public int y;
+
+	@Label("Old Ground")
+	public Class<?> oldGround;
+
+	@Label("New Ground")
+	public Class<?> newGround;
+}
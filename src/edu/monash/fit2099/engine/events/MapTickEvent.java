@@ -0,0 +1,25 @@
+package edu.monash.fit2099.engine.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for a GameMap's tick: its Actors' Items and status effects, then its active Locations.
+ */
+@Name("edu.monash.fit2099.MapTick")
+@Label("Map Tick")
+@Category({"FIT2099", "Maps"})
+@Description("A GameMap experiencing the passage of time")
+@StackTrace(false)
+public class MapTickEvent extends Event {
+	@Label("Map")
+	public String map;
+
+	@Label("Parallel")
+	@Description("Whether the map's Locations were ticked in parallel stripes")
+	public boolean parallel;
+}
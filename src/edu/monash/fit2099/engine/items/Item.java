@@ -11,10 +11,25 @@ import edu.monash.fit2099.engine.positions.Location;
  *
  */
 public abstract class Item extends GameEntity implements Printable {
+	/**
+	 * Whether each class of Item overrides {@link #tick(Location)}, worked out once per class.
+	 */
+	private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("tick", Location.class).getDeclaringClass() != Item.class;
+			} catch (NoSuchMethodException e) {
+				return true;
+			}
+		}
+	};
 
 	private final String name;
 	private char displayChar;
 	protected boolean portable;
+	private PickUpAction pickUpAction;
+	private DropAction dropAction;
 
 	/***
 	 * Constructor.
@@ -47,6 +62,18 @@ public abstract class Item extends GameEntity implements Printable {
 	public void tick(Location currentLocation) {
 	}
 
+	/**
+	 * Whether this Item needs to be told about the passage of time while it is on the ground.
+	 *
+	 * A GameMap only ticks the Locations that have something to tick. By default this is true if and
+	 * only if this class overrides {@link #tick(Location)}. It must not change while the Item is on the ground.
+	 *
+	 * @return true if {@link #tick(Location)} must be called every turn the Item is on the ground
+	 */
+	public boolean needsTick() {
+		return OVERRIDES_TICK.get(getClass());
+	}
+
 	@Override
 	public String toString() {
 		return name;
@@ -69,22 +96,32 @@ public abstract class Item extends GameEntity implements Printable {
 	 * Create and return an action to pick this Item up.
 	 * If this Item is not portable, returns null.
 	 *
-	 * @return a new PickUpItemAction if this Item is portable, null otherwise.
+	 * The action is created once and reused, since it holds no state other than this Item.
+	 *
+	 * @return a PickUpItemAction if this Item is portable, null otherwise.
 	 */
 	public PickUpAction getPickUpAction(Actor actor) {
-		if(portable)
-			return new PickUpAction(this);
+		if(portable) {
+			if (pickUpAction == null)
+				pickUpAction = new PickUpAction(this);
+			return pickUpAction;
+		}
 		return null;
 	}
 
 	/**
 	 * Create and return an action to drop this Item.
 	 * If this Item is not portable, returns null.
-	 * @return a new DropItemAction if this Item is portable, null otherwise.
+	 * The action is created once and reused, since it holds no state other than this Item.
+	 *
+	 * @return a DropItemAction if this Item is portable, null otherwise.
 	 */
 	public DropAction getDropAction(Actor actor) {
-		if(portable)
-			return new DropAction(this);
+		if(portable) {
+			if (dropAction == null)
+				dropAction = new DropAction(this);
+			return dropAction;
+		}
 		return null;
 	}
 
@@ -97,6 +134,15 @@ public abstract class Item extends GameEntity implements Printable {
 		this.portable = !this.portable;
 	}
 
+	/**
+	 * Whether this item can currently be picked up and dropped.
+	 *
+	 * @return true if the item is portable
+	 */
+	public boolean isPortable() {
+		return portable;
+	}
+
 	/**
 	 * List of allowable actions that can be performed on the item when it is on the ground
 	 * Example #1: a trap can return an action to disarm the trap.
@@ -105,7 +151,7 @@ public abstract class Item extends GameEntity implements Printable {
 	 * @return an unmodifiable list of Actions
 	 */
 	public ActionList allowableActions(Location location) {
-		return new ActionList();
+		return ActionList.empty();
 	}
 
 	/**
@@ -116,7 +162,7 @@ public abstract class Item extends GameEntity implements Printable {
 	 * @return an unmodifiable list of Actions
 	 */
 	public ActionList allowableActions(Actor owner){
-		return new ActionList();
+		return ActionList.empty();
 	}
 
 	/**
@@ -130,6 +176,6 @@ public abstract class Item extends GameEntity implements Printable {
 	 * @return an unmodifiable list of Actions
 	 */
 	public ActionList allowableActions(Actor otherActor, Location location){
-		return new ActionList();
+		return ActionList.empty();
 	}
 }
@@ -0,0 +1,34 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+
+import java.io.IOException;
+
+/**
+ * Writes an Action of one class to an {@link ActionJournal} and recreates it during a replay.
+ * <p>
+ * Only Actions an Actor comes up with itself need one, e.g. from its behaviours. Actions chosen
+ * from the ActionList offered to the Actor are journalled by their place in the list.
+ *
+ * @param <A> the class of Action
+ * @see ActionCodecs#register(Class, ActionCodec)
+ */
+public interface ActionCodec<A extends Action> {
+	/**
+	 * Write what is needed to recreate an Action, e.g. the Actors, Locations and Items it acts on.
+	 *
+	 * @param action the Action
+	 * @param out    where to write it
+	 * @throws IOException if writing fails
+	 */
+	void write(A action, JournalOutput out) throws IOException;
+
+	/**
+	 * Recreate an Action from what {@link #write(Action, JournalOutput)} wrote, in the same order.
+	 *
+	 * @param in where to read it from
+	 * @return an Action equivalent to the one written
+	 * @throws IOException if reading fails, or the journal doesn't match the World being replayed
+	 */
+	A read(JournalInput in) throws IOException;
+}
@@ -0,0 +1,68 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.DoNothingAction;
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link ActionCodec}s that an {@link ActionJournal} and a {@link ReplayWorld} use, by Action class.
+ * Codecs for the engine's own DoNothingAction and MoveActorAction are built in.
+ */
+public class ActionCodecs {
+	private final Map<Class<?>, ActionCodec<?>> codecs = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 */
+	public ActionCodecs() {
+		register(DoNothingAction.class, new ActionCodec<DoNothingAction>() {
+			@Override
+			public void write(DoNothingAction action, JournalOutput out) {
+			}
+
+			@Override
+			public DoNothingAction read(JournalInput in) {
+				return new DoNothingAction();
+			}
+		});
+		register(MoveActorAction.class, new ActionCodec<MoveActorAction>() {
+			@Override
+			public void write(MoveActorAction action, JournalOutput out) throws IOException {
+				out.writeLocation(action.getDestination());
+				out.writeString(action.getDirection());
+				out.writeString(action.hotkey());
+			}
+
+			@Override
+			public MoveActorAction read(JournalInput in) throws IOException {
+				return new MoveActorAction(in.readLocation(), in.readString(), in.readString());
+			}
+		});
+	}
+
+	/**
+	 * Use a codec for Actions of the given class (not its subclasses), replacing any already registered.
+	 *
+	 * @param type  the class of Action
+	 * @param codec the codec
+	 * @param <A>   the class of Action
+	 */
+	public <A extends Action> void register(Class<A> type, ActionCodec<A> codec) {
+		codecs.put(type, codec);
+	}
+
+	/**
+	 * Returns the codec for an Action class.
+	 *
+	 * @param type the exact class of the Action
+	 * @return the codec, or null if none is registered
+	 */
+	@SuppressWarnings("unchecked")
+	ActionCodec<Action> get(Class<?> type) {
+		return (ActionCodec<Action>) codecs.get(type);
+	}
+}
@@ -0,0 +1,140 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * An append-only record of the Action every Actor chose on every turn, which a {@link ReplayWorld}
+ * can play back.
+ * <p>
+ * Record the journal from the moment a {@link WorldSnapshot} is taken: the snapshot and the journal
+ * together let the game be replayed from that point, without asking any Actor (or the person at the
+ * keyboard) what to do. Each record is a few bytes: the turn, the Actor, and how to get its Action back.
+ * An Action that was in the ActionList the Actor was offered is recorded by its place in the list, and
+ * one carried on from the Actor's last recorded Action by {@link Action#getNextAction()} by saying so.
+ * Any other Action, including one an Actor added to the list itself and one carried on from an Action
+ * begun before recording started, is recorded by the {@link ActionCodec} registered for its class; an
+ * Action without one is recorded, but can't be replayed.
+ * <p>
+ * Records are written through a buffer, which is written to the channel as it fills, when the World
+ * stops running, and on {@link #flush()}.
+ *
+ * @see World#setJournal(ActionJournal)
+ */
+public class ActionJournal {
+	static final int MAGIC = 0x4632304A; // "F20J"
+	static final int VERSION = 1;
+
+	/**
+	 * The Action was at this index in the ActionList
+	 */
+	static final int FROM_LIST = 0;
+	/**
+	 * The Action was the last Action's next Action
+	 */
+	static final int NEXT_ACTION = 1;
+	/**
+	 * The Action was written by its codec
+	 */
+	static final int ENCODED = 2;
+	/**
+	 * The Action had no codec
+	 */
+	static final int UNRECORDABLE = 3;
+
+	private final SnapshotWriter out;
+	private final ActionCodecs codecs;
+	private JournalOutput output;
+	private World world;
+	private int turn = 0;
+	private int recordedTurn = 0;
+	/**
+	 * The Actors whose Actions have been recorded, so whose last Action a replay will know
+	 */
+	private final Set<Actor> recordedActors = Collections.newSetFromMap(new WeakHashMap<>());
+
+	/**
+	 * Constructor.
+	 *
+	 * @param channel where to write the journal; it is not closed
+	 * @param codecs  how to write Actions that weren't in the ActionList
+	 * @throws IOException if writing the header fails
+	 */
+	public ActionJournal(WritableByteChannel channel, ActionCodecs codecs) throws IOException {
+		this.out = new SnapshotWriter(channel);
+		this.codecs = codecs;
+		out.writeInt(MAGIC);
+		out.writeVarInt(VERSION);
+	}
+
+	/**
+	 * Note that a turn has finished.
+	 */
+	void endTurn() {
+		turn++;
+	}
+
+	/**
+	 * Record the Action an Actor chose.
+	 *
+	 * @param world      the World the Actor is in
+	 * @param actor      the Actor
+	 * @param actions    the Actions it was offered, and any it added while choosing
+	 * @param offered    how many of the Actions it was offered, before it added any
+	 * @param lastAction its Action last turn
+	 * @param action     the Action it chose
+	 */
+	void record(World world, Actor actor, ActionList actions, int offered, Action lastAction, Action action) {
+		if (output == null || this.world != world) {
+			this.world = world;
+			output = new JournalOutput(out, world);
+		}
+
+		try {
+			out.writeVarInt(turn - recordedTurn);
+			recordedTurn = turn;
+			output.setActor(actor);
+			output.writeActor(actor);
+
+			// An Action the Actor was part-way through when recording started is encoded, as a replay won't have it
+			boolean lastActionRecorded = !recordedActors.add(actor);
+			if (lastActionRecorded && lastAction != null && action == lastAction.getNextAction()) {
+				out.writeByte(NEXT_ACTION);
+				return;
+			}
+			// Actions the Actor added while choosing aren't in a replay's list
+			for (int i = 0; i < offered; i++) {
+				if (actions.get(i) == action) {
+					out.writeByte(FROM_LIST);
+					out.writeVarInt(i);
+					return;
+				}
+			}
+
+			ActionCodec<Action> codec = codecs.get(action.getClass());
+			out.writeByte(codec != null ? ENCODED : UNRECORDABLE);
+			out.writeSymbol(action.getClass().getName());
+			if (codec != null)
+				codec.write(action, output);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Write everything recorded so far to the channel.
+	 *
+	 * @throws IOException if writing fails
+	 */
+	public void flush() throws IOException {
+		out.flush();
+	}
+}
@@ -0,0 +1,122 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.List;
+
+/**
+ * Holds back changes to shared game state while GameMaps are being ticked in parallel.
+ * <p>
+ * During a parallel tick each thread ticks one part of the world: a whole GameMap, or a stripe of rows
+ * of one. It may freely change the Locations in its own part (ground, items) and the Actors standing
+ * there, but anything that could touch another part, or the set of Actors in the World, has to wait
+ * until every part has finished ticking. Such changes are queued here instead: changes to Locations
+ * outside the part and adding, removing and moving Actors are queued automatically by the engine, and
+ * game code can queue anything else with {@link #runOrDefer(Runnable)}.
+ * <p>
+ * Once all parts have ticked, the queued changes are applied one part at a time, in a fixed order
+ * (maps in the order they were added to the World, stripes from top to bottom), and in the order they
+ * were queued within each part. The outcome therefore doesn't depend on how the threads happened to
+ * be scheduled.
+ * <p>
+ * Outside a parallel tick nothing is deferred and every change happens immediately.
+ */
+public final class DeferredChanges {
+	private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+	private DeferredChanges() {
+	}
+
+	/**
+	 * Whether changes to shared state made on this thread are currently being held back.
+	 *
+	 * @return true while this thread is ticking a map as part of a parallel tick
+	 */
+	public static boolean isDeferring() {
+		return SCOPE.get() != null;
+	}
+
+	/**
+	 * Whether a change to the given Location made on this thread has to be deferred, i.e. whether a
+	 * parallel tick is under way and the Location is outside the part of the world this thread is ticking.
+	 *
+	 * @param location the Location about to be changed
+	 * @return true if the change must be queued with {@link #runOrDefer(Runnable)}
+	 */
+	public static boolean isOutOfScope(Location location) {
+		Scope scope = SCOPE.get();
+		return scope != null && !scope.contains(location);
+	}
+
+	/**
+	 * Queue a change to be applied after the parallel tick if one is under way on this thread,
+	 * otherwise apply it straight away.
+	 *
+	 * @param change the change to shared state
+	 */
+	public static void runOrDefer(Runnable change) {
+		Scope scope = SCOPE.get();
+		if (scope != null)
+			scope.queue.add(change);
+		else
+			change.run();
+	}
+
+	/**
+	 * Tick a whole GameMap on this thread, queueing (rather than applying) any changes it makes
+	 * to shared state or to other maps.
+	 *
+	 * @param map   the GameMap to tick
+	 * @param queue where the changes are queued
+	 */
+	static void collect(GameMap map, List<Runnable> queue) {
+		collect(map::tick, new Scope(queue, map, 0, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * Do some work on a stripe of rows of a GameMap on this thread, queueing (rather than applying)
+	 * any changes it makes to shared state or to Locations outside the stripe.
+	 *
+	 * @param work  the work to do
+	 * @param queue where the changes are queued
+	 * @param map   the GameMap the stripe is part of
+	 * @param fromY the first row of the stripe
+	 * @param toY   the row after the last row of the stripe
+	 */
+	static void collect(Runnable work, List<Runnable> queue, GameMap map, int fromY, int toY) {
+		collect(work, new Scope(queue, map, fromY, toY));
+	}
+
+	/**
+	 * Run work within a scope. A thread waiting on a fork-join pool may run other tasks in the meantime,
+	 * so the scope it was already in is restored afterwards rather than cleared.
+	 */
+	private static void collect(Runnable work, Scope scope) {
+		Scope previous = SCOPE.get();
+		SCOPE.set(scope);
+		try {
+			work.run();
+		} finally {
+			SCOPE.set(previous);
+		}
+	}
+
+	/**
+	 * The part of the world a thread is ticking, and the queue for its changes to everything else.
+	 */
+	private static final class Scope {
+		private final List<Runnable> queue;
+		private final GameMap map;
+		private final int fromY;
+		private final int toY;
+
+		private Scope(List<Runnable> queue, GameMap map, int fromY, int toY) {
+			this.queue = queue;
+			this.map = map;
+			this.fromY = fromY;
+			this.toY = toY;
+		}
+
+		private boolean contains(Location location) {
+			return location.map() == map && location.y() >= fromY && location.y() < toY;
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package edu.monash.fit2099.engine.positions;
+
+/**
+ * The eight compass directions a Location has Exits in, with the names and hotkeys of those Exits.
+ * <p>
+ * Shared by every GameMap, so that the neighbours of a Location can be worked out from its coordinates
+ * when they are first needed instead of being stored for every Location up front.
+ */
+enum Direction {
+	NORTH("North", "8", 0, -1),
+	NORTH_EAST("North-East", "9", 1, -1),
+	EAST("East", "6", 1, 0),
+	SOUTH_EAST("South-East", "3", 1, 1),
+	SOUTH("South", "2", 0, 1),
+	SOUTH_WEST("South-West", "1", -1, 1),
+	WEST("West", "4", -1, 0),
+	NORTH_WEST("North-West", "7", -1, -1);
+
+	/**
+	 * All directions, in the order their Exits are listed. Unlike values(), this isn't copied on every use.
+	 */
+	static final Direction[] ALL = values();
+
+	final String exitName;
+	final String hotKey;
+	final int dx;
+	final int dy;
+
+	Direction(String exitName, String hotKey, int dx, int dy) {
+		this.exitName = exitName;
+		this.hotKey = hotKey;
+		this.dx = dx;
+		this.dy = dy;
+	}
+}
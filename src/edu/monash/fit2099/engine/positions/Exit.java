@@ -1,13 +1,16 @@
 package edu.monash.fit2099.engine.positions;
 
+import edu.monash.fit2099.engine.actions.MoveActorAction;
+import edu.monash.fit2099.engine.actors.Actor;
+
 /**
  * Class that represents a route from one Location to another.
  */
 public class Exit {
 	
-	private String name;
-	private Location destination;
-	private String hotKey;
+	private final String name;
+	private final Location destination;
+	private final String hotKey;
 
 	/**
 	 *
@@ -44,4 +47,15 @@ public class Exit {
 	public String getHotKey() {
 		return hotKey;
 	}
+
+	/**
+	 * Returns a MoveActorAction that will move actor through this exit, if the destination allows it.
+	 *
+	 * @param actor the Actor to move
+	 * @return a MoveActorAction to the destination if actor can enter it; otherwise null
+	 * @see Location#getMoveAction(Actor, String, String)
+	 */
+	public MoveActorAction getMoveAction(Actor actor) {
+		return destination.getMoveAction(actor, name, hotKey);
+	}
 }
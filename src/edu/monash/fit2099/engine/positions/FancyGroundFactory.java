@@ -1,16 +1,28 @@
 package edu.monash.fit2099.engine.positions;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Class that can create different types of Ground based on the character that
  * represents it.
+ * <p>
+ * Grounds that are {@link Ground#isShareable() shareable} are flyweights: every cell
+ * of that type gets the same instance. Other Grounds are created afresh for each cell.
  */
 public class FancyGroundFactory implements GroundFactory {
 
-	private Map<Character, Constructor<? extends Ground>> map = new HashMap<>();
+	/**
+	 * Suppliers for characters below this are kept in an array, so that looking them up doesn't box the character.
+	 */
+	private static final int ASCII = 128;
+
+	private final Supplier<? extends Ground>[] ascii = newSupplierArray();
+	private final Map<Character, Supplier<? extends Ground>> map = new HashMap<>();
 
 	/**
 	 * Constructor.
@@ -20,16 +32,19 @@ public class FancyGroundFactory implements GroundFactory {
 	 * that represents them. This means that GameMaps will not be able to have
 	 * different types of terrain that have identical characters representing them,
 	 * but that would make the maps look confusing in the UI anyway.
+	 * <p>
+	 * Shareable Grounds given here are used as the flyweight for their type. Other Grounds
+	 * are instantiated through their public no-argument constructor.
 	 *
 	 * @param groundTypes A collection of all types of ground required for a GameMap
 	 */
 	public FancyGroundFactory(Ground... groundTypes) {
 		for (Ground ground : groundTypes) {
 			try {
-				Class<? extends Ground> cls = ground.getClass();
-				Constructor<? extends Ground> constructor;
-				constructor = cls.getConstructor();
-				map.put(ground.getDisplayChar(), constructor);
+				if (ground.isShareable())
+					addGround(ground.getDisplayChar(), () -> ground);
+				else
+					addGround(ground.getDisplayChar(), constructorOf(ground.getClass()));
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
@@ -37,18 +52,76 @@ public class FancyGroundFactory implements GroundFactory {
 	}
 
 	/**
-	 * Given a character, returns a new instance of the Ground type represented by it.
+	 * Use a Supplier to create the Ground represented by a character, replacing any Ground already
+	 * registered for it. The Supplier decides whether each cell gets a new instance or a shared one.
 	 *
 	 * @param displayChar character that represents this Ground in the UI
-	 * @return an instance of a concrete subclass of Ground
+	 * @param supplier    creates (or returns the shared instance of) the Ground
+	 */
+	public void addGround(char displayChar, Supplier<? extends Ground> supplier) {
+		if (displayChar < ASCII)
+			ascii[displayChar] = supplier;
+		else
+			map.put(displayChar, supplier);
+	}
+
+	/**
+	 * Given a character, returns an instance of the Ground type represented by it.
+	 *
+	 * @param displayChar character that represents this Ground in the UI
+	 * @return an instance of a concrete subclass of Ground, which is shared between cells if it is shareable
 	 */
 	@Override
 	public Ground newGround(char displayChar) {
+		Supplier<? extends Ground> supplier = displayChar < ASCII ? ascii[displayChar] : map.get(displayChar);
+		if (supplier == null) {
+			new IllegalArgumentException("No Ground is represented by '" + displayChar + "'").printStackTrace();
+			return null;
+		}
 		try {
-			return map.get(displayChar).newInstance();
+			return supplier.get();
 		} catch (Exception e) {
 			e.printStackTrace();
 		}
 		return null;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Whether a Ground has been given or added for a character.
+	 *
+	 * @param displayChar character that represents the Ground in the UI
+	 * @return true if {@link #newGround(char)} has a Ground for it
+	 */
+	@Override
+	public boolean canCreate(char displayChar) {
+		return (displayChar < ASCII ? ascii[displayChar] : map.get(displayChar)) != null;
+	}
+
+	/**
+	 * Returns a Supplier that calls the public no-argument constructor of a class of Ground,
+	 * through a MethodHandle rather than reflection.
+	 *
+	 * @param cls the class of Ground
+	 * @return a Supplier of new instances of cls
+	 * @throws ReflectiveOperationException if cls has no accessible no-argument constructor
+	 */
+	private static Supplier<Ground> constructorOf(Class<? extends Ground> cls) throws ReflectiveOperationException {
+		MethodHandle constructor = MethodHandles.publicLookup()
+				.findConstructor(cls, MethodType.methodType(void.class))
+				.asType(MethodType.methodType(Ground.class));
+		return () -> {
+			try {
+				return (Ground) constructor.invokeExact();
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException("Couldn't create " + cls.getSimpleName(), e);
+			}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Supplier<? extends Ground>[] newSupplierArray() {
+		return (Supplier<? extends Ground>[]) new Supplier<?>[ASCII];
+	}
+}
@@ -0,0 +1,164 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.util.Arrays;
+
+/**
+ * A map of how many steps each Location of a GameMap is from a target Actor (a Dijkstra map).
+ * <p>
+ * Every step between neighbouring Locations costs the same, so the field is built by a breadth-first
+ * search outwards from the target, which only passes through Locations whose Ground the moving Actor
+ * can enter. Other Actors are ignored, as they move every turn: an Actor following the field just picks
+ * the best neighbour it can actually enter. Only the eight neighbours of each Location are followed,
+ * not custom Exits.
+ * <p>
+ * A field is shared by every Actor chasing the same target that moves the same way: Actors of the same
+ * class with the same capabilities, counting those of the items they carry. It is rebuilt when the target
+ * moves or any Ground on the map changes, and dropped once no Actor has followed it for a whole turn, e.g.
+ * because its followers' capabilities have changed.
+ *
+ * @see GameMap#flowFieldTo(Actor, Actor)
+ */
+public class FlowField {
+	/**
+	 * The distance of Locations the target can't be reached from
+	 */
+	public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+	private final GameMap map;
+	private final Actor target;
+	private final Class<?> moverClass;
+	private final long[] moverCapabilities;
+	private final int[] distances;
+	private int[] queue;
+	private Location root;
+	private long groundVersion = -1;
+	private long lastUsed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param map    the GameMap the field covers
+	 * @param target the Actor the field leads to
+	 * @param mover  an Actor of the kind that will follow the field
+	 */
+	FlowField(GameMap map, Actor target, Actor mover) {
+		this.map = map;
+		this.target = target;
+		this.moverClass = mover.getClass();
+		this.moverCapabilities = mover.capabilityBits();
+		this.distances = new int[map.occupancy.width() * map.occupancy.height()];
+	}
+
+	/**
+	 * Whether this field can be followed by the given Actor.
+	 *
+	 * @param mover the Actor that wants to follow the field
+	 * @return true if mover moves the same way as the Actor the field was built for
+	 */
+	boolean isFor(Actor mover) {
+		return mover.getClass() == moverClass && mover.capabilityBitsEqual(moverCapabilities);
+	}
+
+	/**
+	 * @return the turn of the map this field was last followed on
+	 */
+	long lastUsed() {
+		return lastUsed;
+	}
+
+	/**
+	 * Rebuild the field if the target has moved or the map's Ground has changed since it was built.
+	 *
+	 * @param mover an Actor of the kind that will follow the field
+	 */
+	void update(Actor mover) {
+		lastUsed = map.turn();
+		Location there = map.locationOf(target);
+		if (there == root && groundVersion == map.groundVersion())
+			return;
+
+		root = there;
+		groundVersion = map.groundVersion();
+		build(mover);
+	}
+
+	/**
+	 * Breadth-first search from the target. A Location is only expanded (stepped into from its neighbours)
+	 * if it is the target's or the mover can enter its Ground.
+	 */
+	private void build(Actor mover) {
+		int width = map.occupancy.width();
+		int height = map.occupancy.height();
+		Arrays.fill(distances, UNREACHABLE);
+		if (queue == null)
+			queue = new int[distances.length];
+
+		int start = root.y() * width + root.x();
+		distances[start] = 0;
+		queue[0] = start;
+		int head = 0;
+		int tail = 1;
+		while (head < tail) {
+			int cell = queue[head++];
+			int x = cell % width;
+			int y = cell / width;
+			if (cell != start && !map.at(x, y).getGround().canActorEnter(mover))
+				continue;
+
+			for (Direction direction : Direction.ALL) {
+				int nx = x + direction.dx;
+				int ny = y + direction.dy;
+				if (nx < 0 || ny < 0 || nx >= width || ny >= height)
+					continue;
+				int neighbour = ny * width + nx;
+				if (distances[neighbour] == UNREACHABLE) {
+					distances[neighbour] = distances[cell] + 1;
+					queue[tail++] = neighbour;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the Actor this field leads to
+	 */
+	public Actor getTarget() {
+		return target;
+	}
+
+	/**
+	 * Returns how many steps a Location is from the target.
+	 *
+	 * @param location a Location
+	 * @return the number of steps, or {@link #UNREACHABLE} if the target can't be reached from there
+	 */
+	public int distanceAt(Location location) {
+		if (location.map() != map)
+			return UNREACHABLE;
+		return distances[location.y() * map.occupancy.width() + location.x()];
+	}
+
+	/**
+	 * Returns the best Exit for an Actor to take towards the target: the one to the nearest Location
+	 * (by this field) that is nearer than where the Actor is and that it can enter now.
+	 *
+	 * @param actor the Actor following the field
+	 * @param here  where the Actor is
+	 * @return the Exit to take, or null if no Exit gets the Actor any closer
+	 */
+	public Exit nextStep(Actor actor, Location here) {
+		int best = distanceAt(here);
+		Exit bestExit = null;
+		for (Exit exit : here.getExits()) {
+			Location destination = exit.getDestination();
+			int distance = distanceAt(destination);
+			if (distance < best && destination.canActorEnter(actor)) {
+				best = distance;
+				bestExit = exit;
+			}
+		}
+		return bestExit;
+	}
+}
@@ -2,16 +2,25 @@ package edu.monash.fit2099.engine.positions;
 
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.actors.OccupancyGrid;
 import edu.monash.fit2099.engine.actors.StatusEffect;
+import edu.monash.fit2099.engine.displays.AnsiDisplay;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.events.MapTickEvent;
 import edu.monash.fit2099.engine.items.Item;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Class representing one map within the system.
@@ -24,13 +33,53 @@ import java.util.Objects;
  * It's important to put the GameMap in the World before using it.
  */
 public class GameMap {
+    /**
+     * Stripes shorter than this aren't worth a task of their own.
+     */
+    private static final int MIN_STRIPE_ROWS = 16;
+    /**
+     * Stripes per pool thread, so that a thread that finishes early can pick up more work.
+     */
+    private static final int STRIPES_PER_THREAD = 4;
 
     protected NumberRange heights;
     protected NumberRange widths;
     protected Location[][] map;
+    protected OccupancyGrid occupancy;
+    /**
+     * Cells (index = y * width + x) whose appearance changed since the map was last drawn
+     */
+    private BitSet dirtyCells = new BitSet();
+    private int dirtyCount;
+    /**
+     * The cells of each row that need ticking. One set per row, so that stripes of rows
+     * ticked in parallel never share a word.
+     */
+    private BitSet[] activeRows;
+    /**
+     * Counts changes of Ground, so that flow fields can tell when they are out of date. Grounds change
+     * from every stripe's thread while stripes are ticked in parallel, hence the atomic counter.
+     */
+    private final AtomicLong groundVersion = new AtomicLong();
+    /**
+     * How many times this map has been ticked, so that flow fields nobody follows any more can be dropped
+     */
+    private long turn;
+    /**
+     * Flow fields towards each target, one per way of moving
+     */
+    private final Map<Actor, List<FlowField>> flowFields = new HashMap<>();
     protected ActorLocationsIterator actorLocations;
     protected GroundFactory groundFactory;
     protected String name;
+    /**
+     * The pool that stripes of Locations are ticked on, or null to tick them one after another.
+     */
+    private ForkJoinPool tickPool;
+    /**
+     * True while stripes are being ticked, when marking cells dirty has to wait until they are done.
+     */
+    private volatile boolean tickingStripes;
 
     /**
      * Constructor.
@@ -50,11 +99,7 @@ public class GameMap {
         this.groundFactory = groundFactory;
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
-                at(x, y).setGround(groundFactory.newGround(groundChar));
-            }
-        }
+        widths.forEachInt(x -> heights.forEachInt(y -> at(x, y).setGround(groundFactory.newGround(groundChar))));
     }
 
     /**
@@ -75,14 +120,23 @@ public class GameMap {
 
     /**
      * Constructor that reads a map from file.
+     * <p>
+     * The file is memory-mapped and read in place, so even very large maps load without
+     * holding a copy of the file in memory.
      *
      * @param groundFactory Factory to create Ground objects
      * @param mapFile       Name of a file containing an ASCII representation of a
      *                      level
      * @throws IOException when file I/O fails
+     * @throws IllegalArgumentException if the file is empty, isn't ASCII, or its lines aren't all the same length
      */
     public GameMap(String name, GroundFactory groundFactory, String mapFile) throws IOException {
-        this(name, groundFactory, Files.readAllLines(Paths.get(mapFile)));
+        Objects.requireNonNull(groundFactory);
+        Objects.requireNonNull(mapFile);
+
+        this.name = name;
+        this.groundFactory = groundFactory;
+        createMapFromFile(groundFactory, MapFile.open(Paths.get(mapFile)));
     }
 
     /**
@@ -96,12 +150,22 @@ public class GameMap {
         int height = lines.size();
         initMap(width, height);
 
-        for (int x : widths) {
-            for (int y : heights) {
-                char groundChar = lines.get(y).charAt(x);
-                at(x, y).setGround(groundFactory.newGround(groundChar));
-            }
-        }
+        widths.forEachInt(x -> heights.forEachInt(y -> {
+            char groundChar = lines.get(y).charAt(x);
+            at(x, y).setGround(groundFactory.newGround(groundChar));
+        }));
+    }
+
+    /**
+     * Create a map from a map file, a row at a time.
+     *
+     * @param groundFactory Factory to create Ground objects
+     * @param file          the map file
+     */
+    private void createMapFromFile(GroundFactory groundFactory, MapFile file) {
+        initMap(file.width(), file.height());
+
+        heights.forEachInt(y -> widths.forEachInt(x -> at(x, y).setGround(groundFactory.newGround(file.charAt(x, y)))));
     }
 
     /**
@@ -114,26 +178,39 @@ public class GameMap {
         widths = new NumberRange(0, width);
         heights = new NumberRange(0, height);
         map = new Location[width][height]; // Note the ordering. 0, 0 is the top left.
-        // First arg is across, second down
-        for (int x : widths) {
-            for (int y : heights) {
-                map[x][y] = makeNewLocation(x, y);
-            }
+        occupancy = new OccupancyGrid(width, height);
+        activeRows = new BitSet[height];
+        for (int y = 0; y < height; y++) {
+            activeRows[y] = new BitSet(width);
         }
+        // First arg is across, second down
+        widths.forEachInt(x -> heights.forEachInt(y -> {
+            map[x][y] = makeNewLocation(x, y);
+            updateActive(map[x][y]);
+        }));
+    }
 
-        for (int x : widths) {
-            for (int y : heights) {
-                Location here = this.at(x, y);
-                addExitFromHere(here, x, y - 1, "North", "8");
-                addExitFromHere(here, x + 1, y - 1, "North-East", "9");
-                addExitFromHere(here, x + 1, y, "East", "6");
-                addExitFromHere(here, x + 1, y + 1, "South-East", "3");
-                addExitFromHere(here, x, y + 1, "South", "2");
-                addExitFromHere(here, x - 1, y + 1, "South-West", "1");
-                addExitFromHere(here, x - 1, y, "West", "4");
-                addExitFromHere(here, x - 1, y - 1, "North-West", "7");
-            }
+    /**
+     * Creates the Exits from a Location to each of its neighbours on this map.
+     * <p>
+     * This is called the first time the Location's Exits are needed, rather than when the map is created,
+     * so that Locations nothing ever looks around from don't hold any Exits. It may be called from
+     * several threads at once, so it mustn't change anything.
+     *
+     * @param here the Location whose Exits are needed
+     * @return an immutable list of the Exits
+     */
+    protected List<Exit> neighbourExits(Location here) {
+        Exit[] exits = new Exit[Direction.ALL.length];
+        int count = 0;
+        for (Direction direction : Direction.ALL) {
+            int x = here.x() + direction.dx;
+            int y = here.y() + direction.dy;
+            if (widths.contains(x) && heights.contains(y))
+                exits[count++] = new Exit(direction.exitName, this.at(x, y), direction.hotKey);
         }
+        // An immutable list's fields are final, so other threads see it fully built
+        return List.of(Arrays.copyOf(exits, count));
     }
 
     /**
@@ -168,17 +245,163 @@ public class GameMap {
      * Display the current GameMap.
      * <p>
      * Draws Actors, then locations. These need to be printed in rows because that's the way the
-     * console works.
+     * console works. The display is flushed once the whole frame has been printed.
      *
      * @param display Display that will draw the state of the game
      */
     public void draw(Display display) {
-        for (int y : heights) {
-            for (int x : widths) {
-                display.print(this.at(x, y));
-            }
+        printCells(display);
+        display.flush();
+    }
+
+    /**
+     * Print every Location, row by row, without flushing the display.
+     *
+     * @param display Display that will draw the state of the game
+     */
+    private void printCells(Display display) {
+        heights.forEachInt(y -> {
+            widths.forEachInt(x -> display.print(this.at(x, y)));
             display.endLine();
+        });
+        clearDirty();
+    }
+
+    /**
+     * Display the current GameMap, redrawing only the Locations that have changed since it was last drawn.
+     * <p>
+     * Falls back to drawing the whole map if it isn't already on screen, or if so much has changed
+     * that positioning the cursor for each cell would cost more than a full frame.
+     *
+     * @param display ANSI display that will draw the state of the game
+     * @see #markDirty(Location)
+     */
+    public void drawChanges(AnsiDisplay display) {
+        int width = occupancy.width();
+        int height = occupancy.height();
+
+        // A cursor move costs about as much as eight cells, so past that a full frame is cheaper.
+        if (!display.isShowing(this) || dirtyCount * 8 > width * height) {
+            display.startFrame(this, height);
+            printCells(display);
+            display.endFrame(height);
+            display.flush();
+            return;
+        }
+
+        display.saveCursor();
+        for (int i = dirtyCells.nextSetBit(0); i >= 0; i = dirtyCells.nextSetBit(i + 1)) {
+            int x = i % width;
+            int y = i / width;
+            display.moveCursor(y, x);
+            display.print(this.at(x, y));
+        }
+        display.restoreCursor();
+        clearDirty();
+        display.flush();
+    }
+
+    /**
+     * Note that the given Location looks different now, so that {@link #drawChanges(AnsiDisplay)} redraws it.
+     * <p>
+     * The engine does this itself when the ground changes, items are added or removed, Actors arrive,
+     * leave or change their display character, and when a tick changes what a Location displays.
+     * Call it if you change the appearance of something any other way.
+     *
+     * @param location the Location that changed
+     */
+    public void markDirty(Location location) {
+        if (tickingStripes && DeferredChanges.isDeferring()) {
+            DeferredChanges.runOrDefer(() -> markDirty(location));
+            return;
+        }
+        int index = location.y() * occupancy.width() + location.x();
+        if (!dirtyCells.get(index)) {
+            dirtyCells.set(index);
+            dirtyCount++;
+        }
+    }
+
+    /**
+     * Add a Location to, or remove it from, the set of Locations that are ticked each turn,
+     * according to whether it {@link Location#needsTick() needs ticking}.
+     * Locations call this when their Ground or Items change.
+     *
+     * @param location the Location that changed
+     */
+    void updateActive(Location location) {
+        activeRows[location.y()].set(location.x(), location.needsTick());
+    }
+
+    /**
+     * Note that the Ground of a Location on this map has changed. Locations call this from setGround.
+     */
+    void groundChanged() {
+        groundVersion.incrementAndGet();
+    }
+
+    /**
+     * @return a number that changes whenever the Ground of any Location on this map changes
+     */
+    long groundVersion() {
+        return groundVersion.get();
+    }
+
+    /**
+     * @return how many times this map has been ticked
+     */
+    long turn() {
+        return turn;
+    }
+
+    /**
+     * Returns a flow field leading to a target Actor on this map, for Actors that move like the given one.
+     * <p>
+     * Fields are cached, so any number of Actors chasing the same target cost one search per turn
+     * (or less, if the target stays put), rather than one search each.
+     *
+     * @param target the Actor to head for
+     * @param mover  the Actor that will follow the field
+     * @return the flow field, or null if the target isn't on this map
+     * @see FlowField#nextStep(Actor, Location)
+     */
+    public FlowField flowFieldTo(Actor target, Actor mover) {
+        if (!contains(target)) {
+            flowFields.remove(target);
+            return null;
         }
+
+        List<FlowField> fields = flowFields.computeIfAbsent(target, key -> new ArrayList<>(1));
+        FlowField field = null;
+        for (int i = fields.size() - 1; i >= 0; i--) {
+            FlowField candidate = fields.get(i);
+            if (field == null && candidate.isFor(mover))
+                field = candidate;
+            else if (candidate.lastUsed() < turn - 1) // Nobody followed it last turn, so nobody moves that way now
+                fields.remove(i);
+        }
+        if (field == null) {
+            field = new FlowField(this, target, mover);
+            fields.add(field);
+        }
+        field.update(mover);
+        return field;
+    }
+
+    /**
+     * Forget the flow fields leading to an Actor, as it has left this map.
+     * <p>
+     * The engine calls this when an Actor is removed or moves to another map.
+     *
+     * @param target the Actor that has left
+     */
+    public void forgetFlowFieldsTo(Actor target) {
+        flowFields.remove(target);
+    }
+
+    private void clearDirty() {
+        dirtyCells.clear();
+        dirtyCount = 0;
     }
 
     /**
@@ -200,11 +423,16 @@ public class GameMap {
      * @param ys         the range of Y coordinates
      */
     public void add(char groundChar, NumberRange xs, NumberRange ys) {
-        for (int x : xs) {
-            for (int y : ys) {
-                at(x, y).setGround(groundFactory.newGround(groundChar));
-            }
-        }
+        xs.forEachInt(x -> ys.forEachInt(y -> at(x, y).setGround(groundFactory.newGround(groundChar))));
+    }
+
+    /**
+     * Returns the grid recording which Actor stands on each cell of this map.
+     *
+     * @return the occupancy grid of this map
+     */
+    public OccupancyGrid getOccupancy() {
+        return occupancy;
     }
 
     /**
@@ -225,10 +453,35 @@ public class GameMap {
         return heights;
     }
 
+    /**
+     * Tick the Locations of this map in stripes of rows, in parallel on the given pool, or one after
+     * another if it is null (the default). This is only worthwhile for large maps.
+     * <p>
+     * While stripes are ticked in parallel, changes to Locations outside the stripe being ticked
+     * (and to anything shared with the rest of the World) are deferred until every stripe has finished,
+     * then applied stripe by stripe from the top; see {@link DeferredChanges}. Changes within a stripe
+     * still take effect at once, so a Ground that spreads to the next row behaves differently at a stripe
+     * boundary than it would in a sequential tick. Grounds and Items may read their neighbours, but one
+     * that reads a Location in another stripe races with the thread ticking that stripe, and sees a
+     * mixture of old and new state.
+     *
+     * @param tickPool the pool to tick stripes on, e.g. {@link ForkJoinPool#commonPool()}, or null
+     */
+    public void setTickPool(ForkJoinPool tickPool) {
+        this.tickPool = tickPool;
+    }
+
     /**
      * Called once per turn, so that maps can experience the passage of time.
+     * <p>
+     * Only Locations that {@link Location#needsTick() need ticking} are ticked, in row order, so the
+     * cost depends on the number of active Locations rather than the size of the map.
      */
     public void tick() {
+        MapTickEvent event = new MapTickEvent();
+        event.begin();
+        turn++;
+
         // Tick over all the items in inventories as well as the status effects held by the current actor.
         for (Actor actor : actorLocations) {
             if (this.contains(actor)) {
@@ -241,13 +494,74 @@ public class GameMap {
             }
         }
 
-        for (int y : heights) {
-            for (int x : widths) {
+        if (tickPool == null)
+            tickRows(0, occupancy.height());
+        else
+            tickStripes(tickPool);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.map = toString();
+            event.parallel = tickPool != null;
+            event.commit();
+        }
+    }
+
+    /**
+     * Tick the active Locations in a range of rows.
+     *
+     * @param fromY the first row to tick
+     * @param toY   the row after the last row to tick
+     */
+    private void tickRows(int fromY, int toY) {
+        for (int y = fromY; y < toY; y++) {
+            BitSet row = activeRows[y];
+            for (int x = row.nextSetBit(0); x >= 0; x = row.nextSetBit(x + 1)) {
                 this.at(x, y).tick();
             }
         }
     }
 
+    /**
+     * Tick the Locations in stripes of rows on a pool, then apply the changes each stripe deferred,
+     * in order from the top.
+     *
+     * @param pool the pool to tick stripes on
+     */
+    private void tickStripes(ForkJoinPool pool) {
+        int height = occupancy.height();
+        int stripes = Math.max(1, pool.getParallelism() * STRIPES_PER_THREAD);
+        int stripeRows = Math.max(MIN_STRIPE_ROWS, (height + stripes - 1) / stripes);
+        if (stripeRows >= height) {
+            tickRows(0, height);
+            return;
+        }
+
+        List<List<Runnable>> deferred = new ArrayList<>();
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        tickingStripes = true;
+        try {
+            for (int fromY = 0; fromY < height; fromY += stripeRows) {
+                int from = fromY;
+                int to = Math.min(height, fromY + stripeRows);
+                List<Runnable> changes = new ArrayList<>();
+                deferred.add(changes);
+                tasks.add(pool.submit(() -> DeferredChanges.collect(() -> tickRows(from, to), changes, this, from, to)));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            tickingStripes = false;
+        }
+
+        for (List<Runnable> changes : deferred) {
+            for (Runnable change : changes) {
+                change.run();
+            }
+        }
+    }
+
     /**
      * Returns a reference to the Actor at the given location, if there is one.
      *
@@ -255,7 +569,7 @@ public class GameMap {
      * @return a reference to the Actor, or null if there isn't one
      */
     public Actor getActorAt(Location location) {
-        return actorLocations.getActorAt(location);
+        return location.map().occupancy.get(location.x(), location.y());
     }
 
     /**
@@ -309,7 +623,48 @@ public class GameMap {
      * @return true if and only if an Actor is at the given Location.
      */
     public boolean isAnActorAt(Location location) {
-        return actorLocations.isAnActorAt(location);
+        return getActorAt(location) != null;
+    }
+
+    /**
+     * Returns the Actors within a number of steps of a Location, counting diagonal steps, i.e. those
+     * in the square of side 2 * radius + 1 around it. This includes any Actor at the Location itself.
+     *
+     * @param centre a Location on this map
+     * @param radius how many steps away to look
+     * @return the Actors found, row by row from the top left
+     */
+    public List<Actor> actorsWithin(Location centre, int radius) {
+        List<Actor> actors = new ArrayList<>();
+        occupancy.forEachIn(centre.x() - radius, centre.y() - radius, centre.x() + radius, centre.y() + radius, actors::add);
+        return actors;
+    }
+
+    /**
+     * Returns the Actors in a rectangle. Parts of the rectangle off the edge of the map are ignored.
+     *
+     * @param xs the range of X coordinates
+     * @param ys the range of Y coordinates
+     * @return the Actors found, row by row from the top left
+     */
+    public List<Actor> actorsIn(NumberRange xs, NumberRange ys) {
+        List<Actor> actors = new ArrayList<>();
+        if (xs.size() > 0 && ys.size() > 0)
+            occupancy.forEachIn(xs.min(), ys.min(), xs.max(), ys.max(), actors::add);
+        return actors;
+    }
+
+    /**
+     * Returns the nearest Actor to a Location that has a capability, not counting any Actor at the Location
+     * itself. Distance is counted in steps, including diagonal steps.
+     *
+     * @param centre     a Location on this map
+     * @param capability the capability to look for
+     * @param radius     ignore Actors more than this many steps away
+     * @return the nearest such Actor, or null if there isn't one within radius
+     */
+    public Actor nearestActorWith(Location centre, Enum<?> capability, int radius) {
+        return occupancy.nearest(centre.x(), centre.y(), radius, actor -> actor.hasCapability(capability));
     }
 
     /**
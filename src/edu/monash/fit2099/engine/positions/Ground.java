@@ -9,6 +9,19 @@ import edu.monash.fit2099.engine.displays.Printable;
  * Class representing terrain type
  */
 public abstract class Ground extends GameEntity implements Printable {
+    /**
+     * Whether each class of Ground overrides {@link #tick(Location)}, worked out once per class.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("tick", Location.class).getDeclaringClass() != Ground.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
 
     private char displayChar;
     private String name;
@@ -38,10 +51,10 @@ public abstract class Ground extends GameEntity implements Printable {
      * @param actor     the Actor acting
      * @param location  the current Location
      * @param direction the direction of the Ground from the Actor
-     * @return a new, empty collection of Actions
+     * @return the shared, unmodifiable empty collection of Actions
      */
     public ActionList allowableActions(Actor actor, Location location, String direction) {
-        return new ActionList();
+        return ActionList.empty();
     }
 
     /**
@@ -62,6 +75,33 @@ public abstract class Ground extends GameEntity implements Printable {
     public void tick(Location location) {
     }
 
+    /**
+     * Whether this Ground needs to be told about the passage of time.
+     * <p>
+     * A GameMap only ticks the Locations that have something to tick, so a map made mostly of plain
+     * terrain costs next to nothing to tick. By default this is true if and only if this class
+     * overrides {@link #tick(Location)}. It must not change while the Ground is on a map.
+     *
+     * @return true if {@link #tick(Location)} must be called every turn
+     */
+    public boolean needsTick() {
+        return OVERRIDES_TICK.get(getClass());
+    }
+
+    /**
+     * Whether a single instance of this Ground can be shared by every Location it covers.
+     * <p>
+     * A {@link FancyGroundFactory} hands out the same instance for every cell of a shareable Ground,
+     * so a map's memory grows with the number of kinds of Ground rather than the number of cells.
+     * By default a Ground is shareable if it doesn't need ticking. Override this to return false
+     * if Grounds of this type keep any other per-cell state, e.g. if their capabilities change.
+     *
+     * @return true if one instance can represent every cell of this Ground
+     */
+    public boolean isShareable() {
+        return !needsTick();
+    }
+
     /**
      * Override this to implement terrain that blocks thrown objects but not movement, or vice versa
      *
@@ -0,0 +1,32 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.IOException;
+
+/**
+ * Saves the state of a Ground of one class in a {@link WorldSnapshot} and recreates it when the snapshot is read.
+ * <p>
+ * Only Grounds that keep state of their own need one, e.g. a fire that burns out after a few turns. Other
+ * Grounds are recreated from their class and display character.
+ *
+ * @param <G> the class of Ground
+ * @see WorldSnapshot#register(Class, GroundCodec)
+ */
+public interface GroundCodec<G extends Ground> {
+	/**
+	 * Write what is needed to recreate a Ground, e.g. how long it has left and what it replaced.
+	 *
+	 * @param ground the Ground
+	 * @param out    where to write it
+	 * @throws IOException if writing fails
+	 */
+	void write(G ground, GroundOutput out) throws IOException;
+
+	/**
+	 * Recreate a Ground from what {@link #write(Ground, GroundOutput)} wrote, in the same order.
+	 *
+	 * @param in where to read it from
+	 * @return a Ground in the same state as the one written
+	 * @throws IOException if reading fails, or the snapshot is malformed
+	 */
+	G read(GroundInput in) throws IOException;
+}
@@ -5,4 +5,15 @@ package edu.monash.fit2099.engine.positions;
  */
 public interface GroundFactory {
 	Ground newGround(char displayChar);
+
+	/**
+	 * Whether this factory has a Ground for a character, so that {@link #newGround(char)} can be asked
+	 * for it without failing.
+	 *
+	 * @param displayChar character that represents the Ground in the UI
+	 * @return false if the factory knows it has no Ground for the character; true by default
+	 */
+	default boolean canCreate(char displayChar) {
+		return true;
+	}
 }
@@ -0,0 +1,48 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.IOException;
+
+/**
+ * What a {@link GroundCodec} reads a Ground's state from: whatever a {@link GroundOutput} wrote.
+ */
+public final class GroundInput {
+	private final WorldSnapshot snapshot;
+	private final SnapshotReader in;
+	private final GameMap map;
+
+	GroundInput(WorldSnapshot snapshot, SnapshotReader in, GameMap map) {
+		this.snapshot = snapshot;
+		this.in = in;
+		this.map = map;
+	}
+
+	/**
+	 * Read an int.
+	 *
+	 * @return the int
+	 * @throws IOException if reading fails
+	 */
+	public int readInt() throws IOException {
+		return in.readSignedVarInt();
+	}
+
+	/**
+	 * Read a String.
+	 *
+	 * @return the String, which may be null
+	 * @throws IOException if reading fails
+	 */
+	public String readString() throws IOException {
+		return in.readBoolean() ? in.readString() : null;
+	}
+
+	/**
+	 * Read another Ground.
+	 *
+	 * @return a Ground in the same state as the one written
+	 * @throws IOException if reading fails, the snapshot is malformed, or the Ground can't be recreated
+	 */
+	public Ground readGround() throws IOException {
+		return snapshot.readGround(in, map);
+	}
+}
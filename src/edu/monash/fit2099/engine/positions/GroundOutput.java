@@ -0,0 +1,52 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.IOException;
+
+/**
+ * What a {@link GroundCodec} writes a Ground's state to.
+ */
+public final class GroundOutput {
+	private final WorldSnapshot snapshot;
+	private final SnapshotWriter out;
+	private final GameMap map;
+
+	GroundOutput(WorldSnapshot snapshot, SnapshotWriter out, GameMap map) {
+		this.snapshot = snapshot;
+		this.out = out;
+		this.map = map;
+	}
+
+	/**
+	 * Write an int.
+	 *
+	 * @param value the int
+	 * @throws IOException if writing fails
+	 */
+	public void writeInt(int value) throws IOException {
+		out.writeSignedVarInt(value);
+	}
+
+	/**
+	 * Write a String.
+	 *
+	 * @param value the String, which may be null
+	 * @throws IOException if writing fails
+	 */
+	public void writeString(String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null)
+			out.writeString(value);
+	}
+
+	/**
+	 * Write another Ground, e.g. the one this Ground will turn back into. It is recreated as the
+	 * Grounds on the map are, so it can have a codec too.
+	 *
+	 * @param ground the Ground
+	 * @throws IOException              if writing fails
+	 * @throws IllegalArgumentException if the Ground couldn't be recreated when the snapshot is read
+	 */
+	public void writeGround(Ground ground) throws IOException {
+		snapshot.writeGround(out, map, ground);
+	}
+}
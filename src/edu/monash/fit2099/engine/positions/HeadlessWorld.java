@@ -0,0 +1,136 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.ActionSelector;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.displays.HeadlessDisplay;
+
+import java.util.function.Consumer;
+
+/**
+ * A World for unattended batch simulations.
+ * <p>
+ * Maps are never drawn, and every result string goes to a pluggable sink (which may simply discard it).
+ * The player can be driven by an {@link ActionSelector} so that the game loop never waits on the keyboard.
+ * The run can be capped at a fixed number of turns, and the achieved turns-per-second is recorded.
+ */
+public class HeadlessWorld extends World {
+
+	private ActionSelector playerSelector;
+	private int turnLimit = 0;
+	private int turnCount = 0;
+	private long elapsedNanos = 0;
+
+	/**
+	 * Constructor for a World that discards all output.
+	 */
+	public HeadlessWorld() {
+		this(HeadlessDisplay.DISCARD);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param sink where per-turn result strings are sent
+	 */
+	public HeadlessWorld(Consumer<String> sink) {
+		super(new HeadlessDisplay(sink));
+	}
+
+	/**
+	 * Drive the player with the given ActionSelector instead of its own playTurn().
+	 *
+	 * @param playerSelector the stand-in for the person at the keyboard
+	 */
+	public void setPlayerSelector(ActionSelector playerSelector) {
+		this.playerSelector = playerSelector;
+	}
+
+	/**
+	 * Stop the run after the given number of turns, even if the player is still around.
+	 *
+	 * @param turnLimit the maximum number of turns to run, or 0 for no limit
+	 */
+	public void setTurnLimit(int turnLimit) {
+		if (turnLimit < 0)
+			throw new IllegalArgumentException("Turn limit cannot be negative");
+		this.turnLimit = turnLimit;
+	}
+
+	/**
+	 * Run the game, counting turns from 0 and timing how long it takes.
+	 */
+	@Override
+	public void run() {
+		turnCount = 0;
+		long start = System.nanoTime();
+		try {
+			super.run();
+		} finally {
+			elapsedNanos = System.nanoTime() - start;
+		}
+	}
+
+	@Override
+	protected void processTurn() {
+		super.processTurn();
+		turnCount++;
+	}
+
+	/**
+	 * Headless worlds are never drawn.
+	 *
+	 * @param playersMap the GameMap containing the player
+	 */
+	@Override
+	protected void drawMap(GameMap playersMap) {
+	}
+
+	@Override
+	protected Action chooseAction(Actor actor, ActionList actions, Action lastAction, GameMap map) {
+		if (actor == player && playerSelector != null)
+			return playerSelector.select(actor, actions, lastAction, map);
+
+		return super.chooseAction(actor, actions, lastAction, map);
+	}
+
+	/**
+	 * The game keeps running while the player is around and the turn limit has not been reached.
+	 *
+	 * @return true if another turn should be processed
+	 */
+	@Override
+	protected boolean stillRunning() {
+		return super.stillRunning() && (turnLimit == 0 || turnCount < turnLimit);
+	}
+
+	/**
+	 * The number of turns completed by the last (or current) run.
+	 *
+	 * @return the number of completed turns
+	 */
+	public int getTurnCount() {
+		return turnCount;
+	}
+
+	/**
+	 * The wall-clock time taken by the last run, in nanoseconds.
+	 *
+	 * @return the elapsed time of the last run
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * The throughput achieved by the last run.
+	 *
+	 * @return turns completed per second of wall-clock time, or 0 if nothing has run yet
+	 */
+	public double getTurnsPerSecond() {
+		if (elapsedNanos == 0)
+			return 0;
+		return turnCount / (elapsedNanos / 1e9);
+	}
+}
@@ -0,0 +1,143 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of non-negative long values, such as durations in nanoseconds, with a fixed relative precision.
+ * <p>
+ * As in an HDR histogram, values are counted in buckets whose width grows with the value: each power
+ * of two is split into {@value #SUB_BUCKETS} equal buckets, so any value is known to within about 3%,
+ * whatever its size. Recording a value is a few shifts and an array increment, and the whole range of
+ * a long fits in under 2000 counters, so histograms can be left recording all the time.
+ */
+public class Histogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	/**
+	 * The number of buckets each power of two is split into
+	 */
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private final long[] counts = new long[(64 - SUB_BUCKET_BITS) * SUB_BUCKETS];
+	private long count;
+	private long total;
+	private long min = Long.MAX_VALUE;
+	private long max;
+
+	/**
+	 * Count a value.
+	 *
+	 * @param value the value; negative values are counted as 0
+	 */
+	public void record(long value) {
+		if (value < 0)
+			value = 0;
+		counts[indexOf(value)]++;
+		count++;
+		total += value;
+		if (value < min)
+			min = value;
+		if (value > max)
+			max = value;
+	}
+
+	/**
+	 * Add all the values counted by another histogram to this one.
+	 *
+	 * @param other the other histogram
+	 */
+	public void add(Histogram other) {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+		count += other.count;
+		total += other.total;
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * @return the number of values counted
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the sum of the values counted
+	 */
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * @return the smallest value counted, or 0 if there are none
+	 */
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	/**
+	 * @return the largest value counted, or 0 if there are none
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * @return the mean of the values counted, or 0 if there are none
+	 */
+	public double getMean() {
+		return count == 0 ? 0 : (double) total / count;
+	}
+
+	/**
+	 * Returns (to within the precision of the histogram) the value that the given percentage of values
+	 * are at or below.
+	 *
+	 * @param percentile the percentage, from 0 to 100
+	 * @return the value, or 0 if there are none
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (count == 0)
+			return 0;
+		long rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank)
+				return Math.max(min, Math.min(max, highestValueIn(i)));
+		}
+		return max;
+	}
+
+	/**
+	 * Forget every value counted.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		total = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	/**
+	 * Values below {@link #SUB_BUCKETS} get a bucket each. Above that, a value whose highest bit is
+	 * bit e goes in one of the SUB_BUCKETS buckets for that power of two, by its next highest bits.
+	 */
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long highestValueIn(int index) {
+		if (index < SUB_BUCKETS)
+			return index;
+		int shift = index / SUB_BUCKETS - 1;
+		long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+}
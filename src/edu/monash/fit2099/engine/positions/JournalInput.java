@@ -0,0 +1,118 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.items.Item;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What an {@link ActionCodec} reads an Action's details from during a replay: whatever a
+ * {@link JournalOutput} wrote, found again in the World being replayed.
+ */
+public final class JournalInput {
+	private final SnapshotReader in;
+	private final World world;
+	private final List<Actor> actors = new ArrayList<>();
+	private final List<Item> items = new ArrayList<>();
+
+	JournalInput(SnapshotReader in, World world) {
+		this.in = in;
+		this.world = world;
+	}
+
+	/**
+	 * Read an int.
+	 *
+	 * @return the int
+	 * @throws IOException if reading fails
+	 */
+	public int readInt() throws IOException {
+		return in.readSignedVarInt();
+	}
+
+	/**
+	 * Read a String.
+	 *
+	 * @return the String, which may be null
+	 * @throws IOException if reading fails
+	 */
+	public String readString() throws IOException {
+		return in.readBoolean() ? in.readSymbol() : null;
+	}
+
+	/**
+	 * Read a Location.
+	 *
+	 * @return the Location
+	 * @throws IOException if reading fails, or the Location isn't in this World
+	 */
+	public Location readLocation() throws IOException {
+		int map = in.readVarInt();
+		int x = in.readVarInt();
+		int y = in.readVarInt();
+		if (map >= world.gameMaps.size())
+			throw new StreamCorruptedException("Location on map " + map + " of " + world.gameMaps.size());
+		GameMap gameMap = world.gameMaps.get(map);
+		if (!gameMap.getXRange().contains(x) || !gameMap.getYRange().contains(y))
+			throw new StreamCorruptedException("Location (" + x + ", " + y + ") is off the edge of " + gameMap);
+		return gameMap.at(x, y);
+	}
+
+	/**
+	 * Read an Actor.
+	 *
+	 * @return the Actor
+	 * @throws IOException if reading fails, or the Actor isn't where it was when the journal was written
+	 */
+	public Actor readActor() throws IOException {
+		int id = in.readVarInt();
+		if (id > 0) {
+			if (id > actors.size())
+				throw new StreamCorruptedException("Reference to unknown actor " + id);
+			return actors.get(id - 1);
+		}
+
+		Location location = readLocation();
+		Actor actor = location.getActor();
+		if (actor == null)
+			throw new StreamCorruptedException("No actor at " + location + " as the journal expects");
+		actors.add(actor);
+		return actor;
+	}
+
+	/**
+	 * Read an Item.
+	 *
+	 * @return the Item
+	 * @throws IOException if reading fails, or the Item isn't where it was when the journal was written
+	 */
+	public Item readItem() throws IOException {
+		int id = in.readVarInt();
+		if (id > 0) {
+			if (id > items.size())
+				throw new StreamCorruptedException("Reference to unknown item " + id);
+			return items.get(id - 1);
+		}
+
+		List<Item> list;
+		String place;
+		if (in.readBoolean()) {
+			Actor owner = readActor();
+			list = owner.getItemInventory();
+			place = owner + "'s inventory";
+		} else {
+			Location location = readLocation();
+			list = location.getItems();
+			place = location.toString();
+		}
+		int index = in.readVarInt();
+		if (index >= list.size())
+			throw new StreamCorruptedException("No item " + index + " in " + place + " as the journal expects");
+		Item item = list.get(index);
+		items.add(item);
+		return item;
+	}
+}
@@ -0,0 +1,160 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.items.Item;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What an {@link ActionCodec} writes an Action's details to.
+ * <p>
+ * Actors and Items are written as ids. The first time one is written, where it is in the World is
+ * written too, so that a replay can find the same Actor or Item in its own copy of the World.
+ * Anything written must therefore be somewhere in the World when it is first written.
+ */
+public final class JournalOutput {
+	private final SnapshotWriter out;
+	private final World world;
+	private final Map<Actor, Integer> actorIds = new IdentityHashMap<>();
+	private final Map<Item, Integer> itemIds = new IdentityHashMap<>();
+	/**
+	 * The Actor whose Action is being written, which is where Items are looked for first
+	 */
+	private Actor actor;
+
+	JournalOutput(SnapshotWriter out, World world) {
+		this.out = out;
+		this.world = world;
+	}
+
+	void setActor(Actor actor) {
+		this.actor = actor;
+	}
+
+	/**
+	 * Write an int.
+	 *
+	 * @param value the int
+	 * @throws IOException if writing fails
+	 */
+	public void writeInt(int value) throws IOException {
+		out.writeSignedVarInt(value);
+	}
+
+	/**
+	 * Write a String.
+	 *
+	 * @param value the String, which may be null
+	 * @throws IOException if writing fails
+	 */
+	public void writeString(String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null)
+			out.writeSymbol(value);
+	}
+
+	/**
+	 * Write a Location.
+	 *
+	 * @param location a Location on one of the World's maps
+	 * @throws IOException if writing fails
+	 */
+	public void writeLocation(Location location) throws IOException {
+		int map = world.gameMaps.indexOf(location.map());
+		if (map < 0)
+			throw new IllegalArgumentException(location + " isn't on a map in the World");
+		out.writeVarInt(map);
+		out.writeVarInt(location.x());
+		out.writeVarInt(location.y());
+	}
+
+	/**
+	 * Write an Actor.
+	 *
+	 * @param target an Actor that is, or was when first written, on a map in the World
+	 * @throws IOException if writing fails
+	 */
+	public void writeActor(Actor target) throws IOException {
+		Integer id = actorIds.get(target);
+		if (id != null) {
+			out.writeVarInt(id + 1);
+			return;
+		}
+
+		Location location = world.actorLocations.locationOf(target);
+		if (location == null)
+			throw new IllegalArgumentException(target + " isn't in the World");
+		out.writeVarInt(0);
+		writeLocation(location);
+		actorIds.put(target, actorIds.size());
+	}
+
+	/**
+	 * Write an Item.
+	 *
+	 * @param item an Item that is, or was when first written, in an Actor's inventory or on the ground
+	 * @throws IOException if writing fails
+	 */
+	public void writeItem(Item item) throws IOException {
+		Integer id = itemIds.get(item);
+		if (id != null) {
+			out.writeVarInt(id + 1);
+			return;
+		}
+
+		out.writeVarInt(0);
+		if (!writeItemPlace(item))
+			throw new IllegalArgumentException(item + " isn't in the World");
+		itemIds.put(item, itemIds.size());
+	}
+
+	/**
+	 * Write where an Item is: in an inventory or on the ground, and where in the list.
+	 * The acting Actor's inventory and the ground under it are tried before the rest of the World.
+	 */
+	private boolean writeItemPlace(Item item) throws IOException {
+		if (actor != null) {
+			if (writeIfCarried(item, actor))
+				return true;
+			if (writeIfLying(item, world.actorLocations.locationOf(actor)))
+				return true;
+		}
+		for (Actor owner : world.actorLocations) {
+			if (writeIfCarried(item, owner))
+				return true;
+		}
+		for (GameMap map : world.gameMaps) {
+			for (int y = 0; y < map.getYRange().size(); y++) {
+				for (int x = 0; x < map.getXRange().size(); x++) {
+					if (writeIfLying(item, map.at(x, y)))
+						return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean writeIfCarried(Item item, Actor owner) throws IOException {
+		int index = owner.getItemInventory().indexOf(item);
+		if (index < 0)
+			return false;
+		out.writeBoolean(true);
+		writeActor(owner);
+		out.writeVarInt(index);
+		return true;
+	}
+
+	private boolean writeIfLying(Item item, Location location) throws IOException {
+		List<Item> items = location.getItems();
+		int index = items.isEmpty() ? -1 : items.indexOf(item);
+		if (index < 0)
+			return false;
+		out.writeBoolean(false);
+		writeLocation(location);
+		out.writeVarInt(index);
+		return true;
+	}
+}
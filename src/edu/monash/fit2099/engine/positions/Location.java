@@ -3,6 +3,7 @@ package edu.monash.fit2099.engine.positions;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actions.MoveActorAction;
 import edu.monash.fit2099.engine.displays.Printable;
+import edu.monash.fit2099.engine.events.GroundChangeEvent;
 import edu.monash.fit2099.engine.items.Item;
 
 import java.util.*;
@@ -13,6 +14,19 @@ import java.util.*;
  * character representation, terrain type, and other game data.
  */
 public class Location implements Printable {
+    /**
+     * Whether each class of Location overrides {@link #tick()}, worked out once per class.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_TICK = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("tick").getDeclaringClass() != Location.class;
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
 
     private GameMap map;
     private int x;
@@ -20,7 +34,26 @@ public class Location implements Printable {
 
     private List<Item> items = new ArrayList<>();
     private Ground ground;
-    private List<Exit> exits = new ArrayList<>();
+    /**
+     * The Exits to the neighbouring Locations, worked out from the coordinates the first time they are needed.
+     * The list is immutable, so Locations can be looked around from by several threads during a parallel tick:
+     * threads that get here at the same time each build an identical list, and whichever is kept is fine.
+     */
+    private List<Exit> neighbourExits;
+    /**
+     * The Exits once custom ones have been added or removed, or null for a Location that only has its neighbours
+     */
+    private List<Exit> customExits;
+    private List<Exit> customExitsView;
+    /**
+     * The MoveActorActions to this Location handed out so far, shared by every Actor taking the same route.
+     * Created the first time one is needed.
+     */
+    private MoveActorAction[] moveActions;
+    /**
+     * The number of items here that need ticking
+     */
+    private int tickingItems = 0;
 
     /**
      * Constructor.
@@ -77,22 +110,47 @@ public class Location implements Printable {
 
     /**
      * Add an item to this location.
+     * <p>
+     * During a parallel tick, this is deferred if the Location is outside the part being ticked.
      *
      * @param item the item to add
+     * @see DeferredChanges
      */
     public void addItem(Item item) {
         Objects.requireNonNull(item);
+        if (DeferredChanges.isOutOfScope(this)) {
+            DeferredChanges.runOrDefer(() -> addItem(item));
+            return;
+        }
         items.add(item);
+        if (item.needsTick()) {
+            tickingItems++;
+            map.updateActive(this);
+        }
+        map.markDirty(this);
     }
 
     /**
      * Remove an item from this location, if it is here.
+     * <p>
+     * During a parallel tick, this is deferred if the Location is outside the part being ticked.
      *
      * @param item the item to remove
+     * @see DeferredChanges
      */
     public void removeItem(Item item) {
         Objects.requireNonNull(item);
-        items.remove(item);
+        if (DeferredChanges.isOutOfScope(this)) {
+            DeferredChanges.runOrDefer(() -> removeItem(item));
+            return;
+        }
+        if (items.remove(item)) {
+            if (item.needsTick()) {
+                tickingItems--;
+                map.updateActive(this);
+            }
+            map.markDirty(this);
+        }
     }
 
     /**
@@ -106,11 +164,31 @@ public class Location implements Printable {
 
     /**
      * Set the Ground type at the given Location
+     * <p>
+     * During a parallel tick, this is deferred if the Location is outside the part being ticked.
      *
      * @param ground Ground type to set
+     * @see DeferredChanges
      */
     public void setGround(Ground ground) {
+        if (DeferredChanges.isOutOfScope(this)) {
+            DeferredChanges.runOrDefer(() -> setGround(ground));
+            return;
+        }
+        // Laying the map out isn't a transition worth recording
+        GroundChangeEvent event = new GroundChangeEvent();
+        if (this.ground != null && event.shouldCommit()) {
+            event.map = map.toString();
+            event.x = x;
+            event.y = y;
+            event.oldGround = this.ground.getClass();
+            event.newGround = ground.getClass();
+            event.commit();
+        }
         this.ground = ground;
+        map.groundChanged();
+        map.updateActive(this);
+        map.markDirty(this);
     }
 
     /**
@@ -118,10 +196,27 @@ public class Location implements Printable {
      * important to them.
      */
     public void tick() {
+        char before = getDisplayChar();
         ground.tick(this);
-        for (Item item : new ArrayList<>(items)) {
-            item.tick(this);
+        if (!items.isEmpty()) {
+            for (Item item : new ArrayList<>(items)) { // Copy the list in case the item wants to leave
+                item.tick(this);
+            }
         }
+        if (getDisplayChar() != before)
+            map.markDirty(this);
+    }
+
+    /**
+     * Whether this Location needs to be ticked, i.e. whether its Ground or any of its Items need ticking.
+     * Locations that override {@link #tick()} are always ticked.
+     *
+     * @return true if the GameMap must call {@link #tick()} every turn
+     * @see Ground#needsTick()
+     * @see Item#needsTick()
+     */
+    public boolean needsTick() {
+        return OVERRIDES_TICK.get(getClass()) || tickingItems > 0 || (ground != null && ground.needsTick());
     }
 
     /**
@@ -156,6 +251,9 @@ public class Location implements Printable {
 
     /**
      * Returns a MoveActorAction that will move actor to location if the terrain type allows.
+     * <p>
+     * MoveActorActions are immutable, so the one for each direction and hotkey is created the first time
+     * it is needed and shared from then on.
      *
      * @param actor     the Actor to move
      * @param direction the direction of the destination from actor
@@ -164,11 +262,28 @@ public class Location implements Printable {
      */
     public MoveActorAction getMoveAction(Actor actor, String direction, String hotKey) {
         if (canActorEnter(actor))
-            return new MoveActorAction(this, direction, hotKey);
+            return sharedMoveAction(direction, hotKey);
 
         return null;
     }
 
+    /**
+     * Finds or creates the shared MoveActorAction to this Location. There is usually one for each
+     * neighbour, so a short array searched in order is enough; past that, Actions aren't kept.
+     */
+    private MoveActorAction sharedMoveAction(String direction, String hotKey) {
+        if (moveActions == null)
+            moveActions = new MoveActorAction[Direction.ALL.length];
+        for (int i = 0; i < moveActions.length; i++) {
+            MoveActorAction action = moveActions[i];
+            if (action == null)
+                return moveActions[i] = new MoveActorAction(this, direction, hotKey);
+            if (Objects.equals(action.getDirection(), direction) && Objects.equals(action.hotkey(), hotKey))
+                return action;
+        }
+        return new MoveActorAction(this, direction, hotKey);
+    }
+
     /**
      * Returns true if an Actor can enter this location.
      * <p>
@@ -216,33 +331,57 @@ public class Location implements Printable {
 
     /**
      * Returns an unmodifiable list of exits.
+     * <p>
+     * The Exits to the neighbouring Locations are created the first time this is called. This is safe to
+     * call from several threads at once, e.g. while a map is ticked in parallel.
      *
      * @return an unmodifiable list of exits
+     * @see GameMap#neighbourExits(Location)
      */
     public List<Exit> getExits() {
-        return Collections.unmodifiableList(exits);
+        if (customExitsView != null)
+            return customExitsView;
+        List<Exit> exits = neighbourExits;
+        if (exits == null)
+            neighbourExits = exits = map.neighbourExits(this);
+        return exits;
     }
 
     /**
      * Add an exit to this Location.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * The exit is added to the Exits to the neighbouring Locations. Exits must not be added or
+     * removed while the map is being ticked in parallel.
      *
      * @param exit the exit to add
      */
     public void addExit(Exit exit) {
-        exits.add(exit);
+        customExits().add(exit);
     }
 
     /**
      * Remove an exit from this Location.
      * <p>
-     * This method is used in GameMap to initialize the Location's exits.
+     * Exits must not be added or removed while the map is being ticked in parallel.
      *
      * @param exit the exit to remove
      */
     public void removeExit(Exit exit) {
-        exits.remove(exit);
+        customExits().remove(exit);
+    }
+
+    /**
+     * Returns the modifiable list of exits, starting it from the Exits to the neighbouring Locations if this
+     * Location didn't have custom exits yet.
+     *
+     * @return the modifiable list of exits
+     */
+    private List<Exit> customExits() {
+        if (customExits == null) {
+            customExits = new ArrayList<>(getExits());
+            customExitsView = Collections.unmodifiableList(customExits);
+        }
+        return customExits;
     }
 
     /**
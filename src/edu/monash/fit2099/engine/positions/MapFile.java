@@ -0,0 +1,117 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * An ASCII map file, memory-mapped so that its characters can be read straight from the file
+ * without copying it into Strings first.
+ * <p>
+ * Opening the file makes one pass over it to find where each row starts and check that every row
+ * is as wide as the first. Lines may end in "\n" or "\r\n", and blank lines at the end of the file
+ * are ignored. Apart from the mapping itself, only the row offsets are held in memory.
+ */
+final class MapFile {
+	private final MappedByteBuffer buffer;
+	private final int[] rowStarts;
+	private final int width;
+
+	private MapFile(MappedByteBuffer buffer, int[] rowStarts, int width) {
+		this.buffer = buffer;
+		this.rowStarts = rowStarts;
+		this.width = width;
+	}
+
+	/**
+	 * Map a file and check its shape.
+	 *
+	 * @param path the file to read
+	 * @return the map file
+	 * @throws IOException when file I/O fails, or the file is too large to map
+	 * @throws IllegalArgumentException if the file is empty, contains characters that aren't ASCII,
+	 *                                  or has rows of different widths
+	 */
+	static MapFile open(Path path) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+				throw new IOException(path + " is too large to load as a map (" + size + " bytes)");
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+
+		int limit = buffer.limit();
+		int[] rowStarts = new int[64];
+		int rows = 0;
+		int width = -1;
+		int position = 0;
+		while (position < limit) {
+			int start = position;
+			while (position < limit && buffer.get(position) != '\n') {
+				if (buffer.get(position) < 0)
+					throw new IllegalArgumentException(String.format("%s: line %d contains a character that isn't ASCII",
+							path, rows + 1));
+				position++;
+			}
+			int end = position > start && buffer.get(position - 1) == '\r' ? position - 1 : position;
+			position++; // skip the newline
+
+			if (end == start && onlyBlankLinesFollow(buffer, position))
+				break;
+			if (width < 0)
+				width = end - start;
+			else if (end - start != width)
+				throw new IllegalArgumentException(String.format("%s: line %d is %d characters wide, but line 1 is %d",
+						path, rows + 1, end - start, width));
+
+			if (rows == rowStarts.length)
+				rowStarts = Arrays.copyOf(rowStarts, rows * 2);
+			rowStarts[rows++] = start;
+		}
+
+		if (rows == 0 || width == 0)
+			throw new IllegalArgumentException(path + " doesn't contain a map");
+		return new MapFile(buffer, Arrays.copyOf(rowStarts, rows), width);
+	}
+
+	/**
+	 * Whether everything from the given position to the end of the buffer is line breaks.
+	 */
+	private static boolean onlyBlankLinesFollow(MappedByteBuffer buffer, int position) {
+		for (int i = position; i < buffer.limit(); i++) {
+			byte b = buffer.get(i);
+			if (b != '\n' && b != '\r')
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of characters in each row
+	 */
+	int width() {
+		return width;
+	}
+
+	/**
+	 * @return the number of rows
+	 */
+	int height() {
+		return rowStarts.length;
+	}
+
+	/**
+	 * Returns the character at the given position.
+	 *
+	 * @param x the column, counting from 0 at the left
+	 * @param y the row, counting from 0 at the top
+	 * @return the character there
+	 */
+	char charAt(int x, int y) {
+		return (char) buffer.get(rowStarts[y] + x);
+	}
+}
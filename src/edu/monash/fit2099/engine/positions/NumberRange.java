@@ -1,35 +1,97 @@
 package edu.monash.fit2099.engine.positions;
 
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * A class that represents an array of sequential numbers.
- * 
+ *
  * Counted for loops can cause off by one errors, and using this class can
  * let you use enhanced for loops instead.  Python programmers should be familiar
  * with this idiom.
+ * <p>
+ * Only the bounds are stored, so a range costs the same however long it is and
+ * {@link #contains(int)} is O(1). Enhanced for loops box each number; hot loops
+ * should use {@link #forEachInt(IntConsumer)} or {@link #stream()} instead, which don't.
  */
 public class NumberRange implements Iterable<Integer> {
 
-	private List<Integer> list;
+	private final int start;
+	private final int end;
 
+	/**
+	 * Constructor.
+	 *
+	 * @param start the first number in the range
+	 * @param count how many numbers are in the range
+	 */
 	public NumberRange(int start, int count) {
-		// Iterators can be used to remove elements. Who knew?
-		List<Integer> innerList = new ArrayList<Integer>();
-		list = Collections.unmodifiableList(innerList);
+		if (count < 0)
+			throw new IllegalArgumentException("A range can't have a negative length");
+		this.start = start;
+		this.end = start + count;
+	}
+
+	@Override
+	public PrimitiveIterator.OfInt iterator() {
+		return new PrimitiveIterator.OfInt() {
+			private int next = start;
+
+			@Override
+			public boolean hasNext() {
+				return next < end;
+			}
+
+			@Override
+			public int nextInt() {
+				if (next >= end)
+					throw new NoSuchElementException();
+				return next++;
+			}
+		};
+	}
+
+	/**
+	 * Do something with each int in the range, in ascending order, without boxing them.
+	 *
+	 * @param action what to do with each int
+	 */
+	public void forEachInt(IntConsumer action) {
+		for (int i = start; i < end; i++) {
+			action.accept(i);
+		}
+	}
 
-		for (int i = start; i < start + count; i++) {
-			innerList.add(i);
+	@Override
+	public void forEach(Consumer<? super Integer> action) {
+		for (int i = start; i < end; i++) {
+			action.accept(i);
 		}
 	}
 
+	/**
+	 * Returns the ints in the range as a stream, which can be made parallel.
+	 *
+	 * @return a sequential IntStream of the range
+	 */
+	public IntStream stream() {
+		return IntStream.range(start, end);
+	}
+
+	/**
+	 * Returns a Spliterator over the ints in the range. It knows its exact size and splits evenly,
+	 * so it divides well for parallel work.
+	 *
+	 * @return a Spliterator over the range
+	 */
 	@Override
-	public Iterator<Integer> iterator() {
-		return list.iterator();
+	public Spliterator.OfInt spliterator() {
+		return stream().spliterator();
 	}
 
 	/**
@@ -37,7 +99,9 @@ public class NumberRange implements Iterable<Integer> {
 	 * @return the smallest int in the range.
 	 */
 	public int min() {
-		return list.get(0);
+		if (start == end)
+			throw new IndexOutOfBoundsException("The range is empty");
+		return start;
 	}
 
 	/**
@@ -45,17 +109,27 @@ public class NumberRange implements Iterable<Integer> {
 	 * @return the largest int in the range.
 	 */
 	public int max() {
-		return list.get(list.size() - 1);
+		if (start == end)
+			throw new IndexOutOfBoundsException("The range is empty");
+		return end - 1;
+	}
+
+	/**
+	 * Return how many ints are in the range.
+	 * @return the number of ints in the range.
+	 */
+	public int size() {
+		return end - start;
 	}
 
 	/**
 	 * Returns true if the range contains the given int.
-	 * 
+	 *
 	 * @param i the int to check for.
 	 * @return true if i lies between min and max, false otherwise.
 	 */
 	public boolean contains(int i) {
-		return list.contains(i);
+		return i >= start && i < end;
 	}
 
 }
@@ -0,0 +1,122 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actions.ActionList;
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A World that plays back an {@link ActionJournal} instead of asking its Actors what to do.
+ * <p>
+ * Set the World up as the recorded one was, restore the {@link WorldSnapshot} taken when recording
+ * started, then {@link #run()} it: each Actor's turn goes ahead as normal, except that the Action it
+ * performs comes from the journal rather than {@link Actor#playTurn}. Nothing is drawn or read from
+ * the keyboard, so replaying runs as fast as the game logic allows. The run stops when the journal
+ * runs out (or the turn limit is reached, or the player is gone).
+ * <p>
+ * A snapshot doesn't hold the Actions Actors are part-way through, so only recordings started at a turn
+ * boundary, with no Actor part-way through a multi-turn Action (one with a {@link Action#getNextAction()}),
+ * can be replayed. The journal records the first step of any such Action by its {@link ActionCodec}, so
+ * a recording can also be replayed if every pending Action's class has one.
+ * <p>
+ * For Actions with random outcomes to come out the same, the Actors' random numbers must match too:
+ * seed the recorded World with {@link World#setSeed(long)} just after taking the snapshot, and seed this
+ * World with the same seed before restoring it. Each record names the Actor it is for, so a replay that
+ * has drifted from the recording stops with an IllegalStateException at the first turn that doesn't match.
+ */
+public class ReplayWorld extends HeadlessWorld {
+	private final SnapshotReader in;
+	private final ActionCodecs codecs;
+	private final JournalInput input;
+	private int recordedTurn = 0;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param channel where to read the journal from; it is not closed
+	 * @param codecs  how to read Actions the journal wrote with a codec
+	 * @throws IOException if reading the header fails, or the channel doesn't hold a journal this can read
+	 */
+	public ReplayWorld(ReadableByteChannel channel, ActionCodecs codecs) throws IOException {
+		this.in = new SnapshotReader(channel);
+		this.codecs = codecs;
+		this.input = new JournalInput(in, this);
+		if (in.readInt() != ActionJournal.MAGIC)
+			throw new StreamCorruptedException("Not an action journal");
+		int version = in.readVarInt();
+		if (version != ActionJournal.VERSION)
+			throw new IOException("Can't read version " + version + " journals, only version " + ActionJournal.VERSION);
+	}
+
+	/**
+	 * Take the next Action from the journal. Like a World recording a journal, the Actor is then
+	 * given new random numbers to act with.
+	 *
+	 * @throws IllegalStateException if the journal doesn't match the World at this point
+	 */
+	@Override
+	protected Action chooseAction(Actor actor, ActionList actions, Action lastAction, GameMap map) {
+		Action action = readAction(actor, actions, lastAction);
+		actorLocations.splitRandom(actor);
+		return action;
+	}
+
+	private Action readAction(Actor actor, ActionList actions, Action lastAction) {
+		try {
+			recordedTurn += in.readVarInt();
+			Actor recordedActor = input.readActor();
+			if (recordedTurn != getTurnCount() || recordedActor != actor)
+				throw new IllegalStateException(String.format("The journal has %s acting on turn %d, but it's %s's turn %d",
+						recordedActor, recordedTurn, actor, getTurnCount()));
+
+			int kind = in.readByte();
+			switch (kind) {
+			case ActionJournal.FROM_LIST:
+				int index = in.readVarInt();
+				if (index >= actions.size())
+					throw new IllegalStateException(String.format("The journal has %s choosing Action %d of %d on turn %d",
+							actor, index, actions.size(), recordedTurn));
+				return actions.get(index);
+			case ActionJournal.NEXT_ACTION:
+				if (lastAction == null || lastAction.getNextAction() == null)
+					throw new IllegalStateException(String.format("The journal has %s continuing an Action on turn %d, but there is none",
+							actor, recordedTurn));
+				return lastAction.getNextAction();
+			case ActionJournal.ENCODED:
+				String type = in.readSymbol();
+				ActionCodec<Action> codec = codecs.get(Class.forName(type));
+				if (codec == null)
+					throw new IllegalStateException("No codec is registered for " + type);
+				return codec.read(input);
+			case ActionJournal.UNRECORDABLE:
+				throw new IllegalStateException(String.format("%s's Action on turn %d was a %s, which had no codec when recorded",
+						actor, recordedTurn, in.readSymbol()));
+			default:
+				throw new StreamCorruptedException("Unknown record kind " + kind);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The replay keeps running until the journal has been played back, as well as while the
+	 * player is around and the turn limit has not been reached.
+	 *
+	 * @return true if another Actor's turn should be processed
+	 */
+	@Override
+	protected boolean stillRunning() {
+		try {
+			return super.stillRunning() && !in.atEnd();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads what a {@link SnapshotWriter} wrote, streaming it from a channel through a fixed-size buffer.
+ */
+final class SnapshotReader {
+	private final ReadableByteChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+	private final List<String> symbols = new ArrayList<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param channel where to read from; it is not closed
+	 */
+	SnapshotReader(ReadableByteChannel channel) {
+		this.channel = channel;
+		buffer.flip();
+	}
+
+	int readByte() throws IOException {
+		ensure(1);
+		return buffer.get() & 0xFF;
+	}
+
+	int readShort() throws IOException {
+		ensure(2);
+		return buffer.getShort() & 0xFFFF;
+	}
+
+	int readInt() throws IOException {
+		ensure(4);
+		return buffer.getInt();
+	}
+
+	int readVarInt() throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = readByte();
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new StreamCorruptedException("Malformed number in snapshot");
+	}
+
+	int readSignedVarInt() throws IOException {
+		int value = readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	String readString() throws IOException {
+		int length = readVarInt();
+		if (length > buffer.capacity())
+			throw new StreamCorruptedException("String of " + length + " bytes in snapshot");
+		ensure(length);
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Read a string written by {@link SnapshotWriter#writeSymbol(String)}.
+	 */
+	String readSymbol() throws IOException {
+		int index = readVarInt();
+		if (index < symbols.size())
+			return symbols.get(index);
+		if (index != symbols.size())
+			throw new StreamCorruptedException("Reference to unknown symbol " + index + " in snapshot");
+		String symbol = readString();
+		symbols.add(symbol);
+		return symbol;
+	}
+
+	/**
+	 * Whether everything has been read, i.e. the channel has no more bytes.
+	 */
+	boolean atEnd() throws IOException {
+		if (buffer.hasRemaining())
+			return false;
+		buffer.clear();
+		int read;
+		do {
+			read = channel.read(buffer);
+		} while (read == 0);
+		buffer.flip();
+		return read < 0;
+	}
+
+	private void ensure(int bytes) throws IOException {
+		if (buffer.remaining() >= bytes)
+			return;
+		buffer.compact();
+		while (buffer.position() < bytes) {
+			if (channel.read(buffer) < 0)
+				throw new EOFException("Snapshot ends unexpectedly");
+		}
+		buffer.flip();
+	}
+}
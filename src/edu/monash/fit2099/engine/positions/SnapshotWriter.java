@@ -0,0 +1,110 @@
+package edu.monash.fit2099.engine.positions;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the primitives of a {@link WorldSnapshot} to a channel through a fixed-size buffer, so that
+ * a snapshot of any size is streamed out without being built in memory first.
+ * <p>
+ * Counts and other small numbers are written as variable-length ints (seven bits per byte, low bits
+ * first). Strings that recur, such as class names, are written in full the first time and as a
+ * reference to that first time afterwards.
+ */
+final class SnapshotWriter {
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+	private final Map<String, Integer> symbols = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param channel where to write; it is not closed
+	 */
+	SnapshotWriter(WritableByteChannel channel) {
+		this.channel = channel;
+	}
+
+	void writeByte(int value) throws IOException {
+		ensure(1);
+		buffer.put((byte) value);
+	}
+
+	void writeShort(int value) throws IOException {
+		ensure(2);
+		buffer.putShort((short) value);
+	}
+
+	void writeInt(int value) throws IOException {
+		ensure(4);
+		buffer.putInt(value);
+	}
+
+	/**
+	 * Write an int that is usually small and never negative.
+	 */
+	void writeVarInt(int value) throws IOException {
+		ensure(5);
+		while ((value & ~0x7F) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Write an int that is usually small but may be negative.
+	 */
+	void writeSignedVarInt(int value) throws IOException {
+		writeVarInt((value << 1) ^ (value >> 31));
+	}
+
+	void writeBoolean(boolean value) throws IOException {
+		writeByte(value ? 1 : 0);
+	}
+
+	void writeString(String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(bytes.length);
+		ensure(bytes.length);
+		buffer.put(bytes);
+	}
+
+	/**
+	 * Write a string that is likely to be written again, e.g. a class name. Each distinct string is
+	 * numbered in the order it is first written; the number is written every time, followed by the
+	 * string itself the first time only.
+	 */
+	void writeSymbol(String value) throws IOException {
+		Integer index = symbols.get(value);
+		if (index != null) {
+			writeVarInt(index);
+			return;
+		}
+		writeVarInt(symbols.size());
+		symbols.put(value, symbols.size());
+		writeString(value);
+	}
+
+	/**
+	 * Write everything buffered so far to the channel.
+	 */
+	void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	private void ensure(int bytes) throws IOException {
+		if (buffer.remaining() >= bytes)
+			return;
+		flush();
+		if (buffer.remaining() < bytes)
+			throw new IOException("Can't write a value of " + bytes + " bytes in one piece");
+	}
+}
@@ -0,0 +1,258 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.actions.Action;
+import edu.monash.fit2099.engine.actors.Actor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * How long each phase of a {@link World}'s turns took, in nanoseconds.
+ * <p>
+ * Once given to {@link World#setTimings(TurnTimings)}, every turn records how long ticking the maps,
+ * drawing the player's map and the whole turn took, and every Actor's turn records how long assembling
+ * its Actions took, how long it took to decide (by class of Actor) and how long the Action took to
+ * execute (by class of Action). Each is kept in a {@link Histogram}, so recording costs a few clock
+ * reads and no allocation.
+ * <p>
+ * Reading the clock can take tens of nanoseconds, which is a noticeable share of a turn in an unattended
+ * simulation. To leave timings on in such a game, set a sample interval: only one turn in that many is
+ * timed, and the clock isn't read at all on the others.
+ * <p>
+ * At the end of {@link World#run()} the timings are written to the report file, if one has been set,
+ * as CSV or JSON depending on its extension. They can also be read or written at any time.
+ */
+public class TurnTimings {
+	private final Histogram tick = new Histogram();
+	private final Histogram draw = new Histogram();
+	private final Histogram turn = new Histogram();
+	private final Histogram assembly = new Histogram();
+	private final Map<Class<?>, Histogram> decisions = new HashMap<>();
+	private final Map<Class<?>, Histogram> executions = new HashMap<>();
+	/**
+	 * The most recent lookups, as the same classes of Actor and Action tend to come up in runs
+	 */
+	private Class<?> lastActorClass, lastActionClass;
+	private Histogram lastDecision, lastExecution;
+	private Path report;
+	private int sampleInterval = 1;
+	private int turnsUntilSample = 1;
+
+	/**
+	 * Write the timings to the given file at the end of every {@link World#run()}: as JSON if its
+	 * name ends in ".json", otherwise as CSV.
+	 *
+	 * @param report the file to write, or null to not write one
+	 */
+	public void setReport(Path report) {
+		this.report = report;
+	}
+
+	/**
+	 * Time only one turn in every {@code sampleInterval}, starting with the next one.
+	 *
+	 * @param sampleInterval how many turns there are for each turn timed; 1 (the default) times every turn
+	 * @throws IllegalArgumentException if the interval is less than 1
+	 */
+	public void setSampleInterval(int sampleInterval) {
+		if (sampleInterval < 1)
+			throw new IllegalArgumentException("Sample interval must be at least 1, not " + sampleInterval);
+		this.sampleInterval = sampleInterval;
+		this.turnsUntilSample = 1;
+	}
+
+	/**
+	 * @return how long ticking all the GameMaps took, each turn
+	 */
+	public Histogram getTick() {
+		return tick;
+	}
+
+	/**
+	 * @return how long drawing the player's map took, each turn
+	 */
+	public Histogram getDraw() {
+		return draw;
+	}
+
+	/**
+	 * @return how long each whole turn took
+	 */
+	public Histogram getTurn() {
+		return turn;
+	}
+
+	/**
+	 * @return how long assembling the Actions available to an Actor took, each Actor's turn
+	 */
+	public Histogram getAssembly() {
+		return assembly;
+	}
+
+	/**
+	 * @param actorClass a class of Actor
+	 * @return how long Actors of exactly that class took to choose their Action, or null if none has
+	 */
+	public Histogram getDecision(Class<? extends Actor> actorClass) {
+		return decisions.get(actorClass);
+	}
+
+	/**
+	 * @param actionClass a class of Action
+	 * @return how long Actions of exactly that class took to execute, or null if none has been
+	 */
+	public Histogram getExecution(Class<? extends Action> actionClass) {
+		return executions.get(actionClass);
+	}
+
+	/**
+	 * Forget all the timings recorded so far.
+	 */
+	public void reset() {
+		tick.reset();
+		draw.reset();
+		turn.reset();
+		assembly.reset();
+		decisions.clear();
+		executions.clear();
+		lastActorClass = lastActionClass = null;
+		lastDecision = lastExecution = null;
+	}
+
+	/**
+	 * Called as each turn starts.
+	 *
+	 * @return true if this turn should be timed
+	 */
+	boolean startTurn() {
+		if (--turnsUntilSample > 0)
+			return false;
+		turnsUntilSample = sampleInterval;
+		return true;
+	}
+
+	void recordTurn(long start, long ticked, long drawn, long end) {
+		tick.record(ticked - start);
+		draw.record(drawn - ticked);
+		turn.record(end - start);
+	}
+
+	/**
+	 * Record an Actor's turn. Anything done between choosing and executing the Action, such as
+	 * journaling it, isn't counted.
+	 */
+	void recordActorTurn(Actor actor, Action action, long start, long assembled, long chosen, long executing, long executed) {
+		assembly.record(assembled - start);
+
+		if (actor.getClass() != lastActorClass) {
+			lastActorClass = actor.getClass();
+			lastDecision = decisions.computeIfAbsent(lastActorClass, c -> new Histogram());
+		}
+		lastDecision.record(chosen - assembled);
+
+		if (action.getClass() != lastActionClass) {
+			lastActionClass = action.getClass();
+			lastExecution = executions.computeIfAbsent(lastActionClass, c -> new Histogram());
+		}
+		lastExecution.record(executed - executing);
+	}
+
+	/**
+	 * Writes the report file, if one has been set. Called at the end of {@link World#run()}.
+	 *
+	 * @throws UncheckedIOException if writing the file fails
+	 */
+	void runFinished() {
+		if (report == null)
+			return;
+		try (Writer out = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+			if (report.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json"))
+				writeJson(out);
+			else
+				writeCsv(out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Write the timings as CSV: a header, then a row for each phase, and for each class of Actor and Action.
+	 *
+	 * @param out where to write them
+	 * @throws IOException if writing fails
+	 */
+	public void writeCsv(Appendable out) throws IOException {
+		out.append("phase,class,count,total_ns,mean_ns,min_ns,p50_ns,p90_ns,p99_ns,max_ns\n");
+		for (Row row : rows()) {
+			Histogram h = row.histogram;
+			out.append(row.phase).append(',').append(row.className == null ? "" : row.className)
+					.append(String.format(Locale.ROOT, ",%d,%d,%.1f,%d,%d,%d,%d,%d%n", h.getCount(), h.getTotal(), h.getMean(),
+							h.getMin(), h.getValueAtPercentile(50), h.getValueAtPercentile(90), h.getValueAtPercentile(99), h.getMax()));
+		}
+	}
+
+	/**
+	 * Write the timings as a JSON object, with the same fields as {@link #writeCsv(Appendable)} in an array of phases.
+	 *
+	 * @param out where to write them
+	 * @throws IOException if writing fails
+	 */
+	public void writeJson(Appendable out) throws IOException {
+		out.append("{\"unit\":\"ns\",\"phases\":[");
+		List<Row> rows = rows();
+		for (int i = 0; i < rows.size(); i++) {
+			Row row = rows.get(i);
+			Histogram h = row.histogram;
+			out.append(i == 0 ? "\n" : ",\n").append("{\"phase\":\"").append(row.phase).append("\",\"class\":")
+					.append(row.className == null ? "null" : "\"" + row.className + "\"")
+					.append(String.format(Locale.ROOT, ",\"count\":%d,\"total\":%d,\"mean\":%.1f,\"min\":%d,\"p50\":%d,\"p90\":%d,\"p99\":%d,\"max\":%d}",
+							h.getCount(), h.getTotal(), h.getMean(), h.getMin(), h.getValueAtPercentile(50),
+							h.getValueAtPercentile(90), h.getValueAtPercentile(99), h.getMax()));
+		}
+		out.append("\n]}\n");
+	}
+
+	private List<Row> rows() {
+		List<Row> rows = new ArrayList<>();
+		rows.add(new Row("turn", null, turn));
+		rows.add(new Row("tick", null, tick));
+		rows.add(new Row("draw", null, draw));
+		rows.add(new Row("assembly", null, assembly));
+		addRows(rows, "decision", decisions);
+		addRows(rows, "execution", executions);
+		return rows;
+	}
+
+	/**
+	 * Adds a row for each class, most time-consuming first.
+	 */
+	private static void addRows(List<Row> rows, String phase, Map<Class<?>, Histogram> byClass) {
+		List<Map.Entry<Class<?>, Histogram>> entries = new ArrayList<>(byClass.entrySet());
+		entries.sort(Comparator.comparingLong((Map.Entry<Class<?>, Histogram> e) -> e.getValue().getTotal()).reversed());
+		for (Map.Entry<Class<?>, Histogram> entry : entries) {
+			rows.add(new Row(phase, entry.getKey().getName(), entry.getValue()));
+		}
+	}
+
+	private static class Row {
+		private final String phase;
+		private final String className;
+		private final Histogram histogram;
+
+		private Row(String phase, String className, Histogram histogram) {
+			this.phase = phase;
+			this.className = className;
+			this.histogram = histogram;
+		}
+	}
+}
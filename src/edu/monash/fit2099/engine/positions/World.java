@@ -5,13 +5,20 @@ import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actors.ActorLocationsIterator;
+import edu.monash.fit2099.engine.displays.AnsiDisplay;
 import edu.monash.fit2099.engine.displays.Display;
+import edu.monash.fit2099.engine.events.ActorTurnEvent;
 import edu.monash.fit2099.engine.items.Item;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Za Warudo! - DIO
@@ -25,6 +32,28 @@ public class World {
 	protected ActorLocationsIterator actorLocations = new ActorLocationsIterator();
 	protected Actor player; // We only draw the particular map this actor is on.
 	protected Map<Actor, Action> lastActionMap = new HashMap<Actor, Action>();
+	/**
+	 * Reused for every Actor's turn so that assembling the available Actions doesn't allocate.
+	 * Turns are processed one at a time, so a single list is enough.
+	 */
+	private final ActionList turnActions = new ActionList();
+	private final DoNothingAction doNothingAction = new DoNothingAction();
+	/**
+	 * The pool that GameMaps are ticked on, or null to tick them one after another on the game thread.
+	 */
+	private ForkJoinPool tickPool;
+	/**
+	 * Where every Action chosen is recorded, or null
+	 */
+	private ActionJournal journal;
+	/**
+	 * Where how long each phase of a turn takes is recorded, or null
+	 */
+	private TurnTimings timings;
+	/**
+	 * Whether the turn in progress is being timed
+	 */
+	private boolean timingTurn;
 
 	/**
 	 * Constructor.
@@ -46,6 +75,55 @@ public class World {
 		gameMap.actorLocations = actorLocations;
 	}
 
+	/**
+	 * Tick the GameMaps of this World in parallel on the given pool, or sequentially if it is null
+	 * (the default).
+	 * <p>
+	 * While maps are ticked in parallel, changes that could reach beyond the map being ticked are
+	 * deferred until every map has finished, then applied in a fixed order; see {@link DeferredChanges}.
+	 * Grounds and Items that tick must therefore only change their own map, or defer the change.
+	 *
+	 * @param tickPool the pool to tick maps on, e.g. {@link ForkJoinPool#commonPool()}, or null
+	 */
+	public void setTickPool(ForkJoinPool tickPool) {
+		this.tickPool = tickPool;
+	}
+
+	/**
+	 * Seed the random numbers of this World, so that a run can be reproduced.
+	 * <p>
+	 * Every Actor draws its random numbers from its own stream (see {@link Actor#getRandom()}),
+	 * split off the World's stream as the Actor is placed. Actors already placed get new streams
+	 * from the seed, in turn order, so seeding a World mid-game and seeding a copy of it restored from a
+	 * {@link WorldSnapshot} (before restoring) gives both the same random numbers from then on.
+	 *
+	 * @param seed the seed
+	 */
+	public void setSeed(long seed) {
+		actorLocations.setSeed(seed);
+	}
+
+	/**
+	 * Record every Action chosen from now on in the given journal, or stop recording if it is null.
+	 *
+	 * @param journal the journal to record in, or null
+	 * @see ReplayWorld
+	 */
+	public void setJournal(ActionJournal journal) {
+		this.journal = journal;
+	}
+
+	/**
+	 * Record how long each phase of every turn takes from now on in the given timings, or stop
+	 * timing if it is null.
+	 *
+	 * @param timings the timings to record in, or null
+	 */
+	public void setTimings(TurnTimings timings) {
+		this.timings = timings;
+		this.timingTurn = false;
+	}
+
 	/**
 	 * Set an actor as the player. The map is drawn just before this Actor's turn
 	 * 
@@ -76,26 +154,96 @@ public class World {
 
 		// initialize the last action map to nothing actions;
 		for (Actor actor : actorLocations) {
-			lastActionMap.put(actor, new DoNothingAction());
+			lastActionMap.put(actor, doNothingAction);
 		}
 
 		// This loop is basically the whole game
 		while (stillRunning()) {
-			GameMap playersMap = actorLocations.locationOf(player).map();
-			// Tick over all the maps. For the map stuff.
+			processTurn();
+		}
+		if (journal != null) {
+			try {
+				journal.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		if (timings != null)
+			timings.runFinished();
+		display.println(endGameMessage());
+	}
+
+	/**
+	 * Runs a single iteration of the game loop: ticks every map, draws the player's
+	 * map, then gives every Actor its turn.
+	 */
+	protected void processTurn() {
+		GameMap playersMap = actorLocations.locationOf(player).map();
+		timingTurn = timings != null && timings.startTurn();
+		long start = clock();
+		// Tick over all the maps. For the map stuff.
+		tickMaps();
+		long ticked = clock();
+
+		drawMap(playersMap);
+		long drawn = clock();
+
+		// Process all the actors.
+		for (Actor actor : actorLocations) {
+			if (stillRunning())
+				processActorTurn(actor);
+		}
+		if (journal != null)
+			journal.endTurn();
+		if (timingTurn)
+			timings.recordTurn(start, ticked, drawn, clock());
+	}
+
+	/**
+	 * Ticks every GameMap, in parallel if a tick pool has been set and there is more than one map.
+	 *
+	 * In parallel, each map is ticked as a separate task and queues its cross-map changes in its own
+	 * buffer. Once all tasks are done, the buffers are applied in the order the maps were added, so
+	 * the result is the same as long as each map's own tick is deterministic.
+	 */
+	protected void tickMaps() {
+		if (tickPool == null || gameMaps.size() < 2) {
 			for (GameMap gameMap : gameMaps) {
 				gameMap.tick();
 			}
+			return;
+		}
 
-			playersMap.draw(display);
-
-			// Process all the actors.
-			for (Actor actor : actorLocations) {
-				if (stillRunning())
-					processActorTurn(actor);
+		List<List<Runnable>> deferred = new ArrayList<>(gameMaps.size());
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(gameMaps.size());
+		for (GameMap gameMap : gameMaps) {
+			List<Runnable> changes = new ArrayList<>();
+			deferred.add(changes);
+			tasks.add(tickPool.submit(() -> DeferredChanges.collect(gameMap, changes)));
+		}
+		for (ForkJoinTask<?> task : tasks) {
+			task.join();
+		}
+		for (List<Runnable> changes : deferred) {
+			for (Runnable change : changes) {
+				change.run();
 			}
 		}
-		display.println(endGameMessage());
+	}
+
+	/**
+	 * Draws the map the player is on. Called once at the start of every turn.
+	 *
+	 * An {@link AnsiDisplay} only has the Locations that changed since the last turn redrawn.
+	 * Override this to change or skip rendering, e.g. for unattended simulations.
+	 *
+	 * @param playersMap the GameMap containing the player
+	 */
+	protected void drawMap(GameMap playersMap) {
+		if (display instanceof AnsiDisplay)
+			playersMap.drawChanges((AnsiDisplay) display);
+		else
+			playersMap.draw(display);
 	}
 
 	/**
@@ -110,13 +258,20 @@ public class World {
 	 * <li>skipping a turn</li>
 	 * </ul>
 	 *
+	 * The ActionList handed to the Actor is cleared and reused on the next turn, so Actors
+	 * must not hold on to it.
+	 *
 	 * @param actor the Actor whose turn it is.
 	 */
 	protected void processActorTurn(Actor actor) {
+		ActorTurnEvent event = new ActorTurnEvent();
+		event.begin();
+		long start = clock();
 		Location here = actorLocations.locationOf(actor);
 		GameMap map = here.map();
 
-		ActionList actions = new ActionList();
+		ActionList actions = turnActions;
+		actions.clear();
 		for (Item item : actor.getItemInventory()) {
 			// for each item that can perform an action to its owner
 			actions.add(item.allowableActions(actor));
@@ -149,15 +304,58 @@ public class World {
 			// Game rule. If it's on the ground you can pick it up.
 			actions.add(item.getPickUpAction(actor));
 		}
-		actions.add(new DoNothingAction());
+		actions.add(doNothingAction);
 
-		Action action = actor.playTurn(actions, lastActionMap.get(actor), map, display);
+		long assembled = clock();
+
+		Action lastAction = lastActionMap.get(actor);
+		// The Actor may add to the list as it chooses, but a replay only has the Actions offered
+		int offered = actions.size();
+		Action action = chooseAction(actor, actions, lastAction, map);
+		long chosen = clock();
+		if (journal != null) {
+			journal.record(this, actor, actions, offered, lastAction, action);
+			// A replay doesn't ask the actor, so what the actor drew while choosing mustn't affect the outcome
+			actorLocations.splitRandom(actor);
+		}
 		lastActionMap.put(actor, action);
 		
+		long executing = clock();
 		String result = action.execute(actor, map);
+		if (timingTurn)
+			timings.recordActorTurn(actor, action, start, assembled, chosen, executing, clock());
+		event.end();
+		if (event.shouldCommit()) {
+			event.actor = actor.getName();
+			event.actorClass = actor.getClass();
+			event.actionClass = action.getClass();
+			event.commit();
+		}
 		display.println(result);
 	}
 
+	/**
+	 * @return the time in nanoseconds if this turn is being timed, otherwise 0 without reading the clock
+	 */
+	private long clock() {
+		return timingTurn ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Asks an Actor which Action it wants to perform this turn.
+	 *
+	 * By default this simply delegates to {@link Actor#playTurn(ActionList, Action, GameMap, Display)}.
+	 *
+	 * @param actor      the Actor whose turn it is
+	 * @param actions    the Actions available to the Actor
+	 * @param lastAction the Action the Actor took last turn
+	 * @param map        the map containing the Actor
+	 * @return the Action to be performed
+	 */
+	protected Action chooseAction(Actor actor, ActionList actions, Action lastAction, GameMap map) {
+		return actor.playTurn(actions, lastAction, map, display);
+	}
+
 	/**
 	 * Returns true if the game is still running.
 	 *
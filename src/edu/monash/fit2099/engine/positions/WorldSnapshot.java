@@ -0,0 +1,686 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.GameEntity;
+import edu.monash.fit2099.engine.actors.Actor;
+import edu.monash.fit2099.engine.actors.StatusEffect;
+import edu.monash.fit2099.engine.actors.attributes.ActorAttributeOperations;
+import edu.monash.fit2099.engine.actors.attributes.BaseActorAttribute;
+import edu.monash.fit2099.engine.items.Item;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.StreamCorruptedException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Saves the state of a World to a compact binary snapshot, and restores it again, so that a long
+ * simulation can be checkpointed every so often and resumed later.
+ * <p>
+ * A snapshot records, for each GameMap, the Ground on every Location and the Items lying there; and
+ * for each Actor in the World, where it stands, its capabilities, attributes, Wallet balance,
+ * inventory and status effects. The Ground of each map is stored as a palette of the distinct kinds
+ * of Ground on it followed by one palette index per Location (a byte each, on maps with at most 256
+ * kinds of Ground), so a snapshot is a small fraction of the size of the World in memory.
+ * Snapshots are written and read as streams over NIO channels, e.g. a {@link java.nio.channels.FileChannel},
+ * through a fixed-size buffer.
+ * <p>
+ * A snapshot holds state, not code, so it is restored into a World that has been set up the same way,
+ * with the same GameMaps (same names and sizes, in the same order). Items, Actors and status effects
+ * are recreated by class: with a factory {@link #register(Class, Supplier) registered} for the class,
+ * or else its public no-argument constructor. The saved state is then applied over the new object's own.
+ * Grounds are recreated with a registered factory, or else asked for from the map's GroundFactory by
+ * display character. Grounds that keep state of their own, such as how long a fire has left to burn,
+ * need a {@link GroundCodec} {@link #register(Class, GroundCodec) registered} for their class, which
+ * saves that state in the snapshot and recreates the Ground from it. Snapshots of Worlds with Grounds
+ * that can't be recreated aren't written.
+ * <p>
+ * Anything else an object holds in its own fields (e.g. an Actor's behaviours, a status effect's
+ * duration) is whatever its constructor gives it, and the Actors' random number streams
+ * are split off the World's stream afresh as they are placed (see {@link World#setSeed(long)}).
+ */
+public class WorldSnapshot {
+	/**
+	 * The first four bytes of every snapshot
+	 */
+	private static final int MAGIC = 0x46323053; // "F20S"
+	/**
+	 * The version of the format written. Bump this whenever the format changes.
+	 */
+	public static final int VERSION = 2;
+
+	private final Map<Class<?>, Supplier<?>> factories = new HashMap<>();
+	private final Map<Class<?>, Supplier<?>> constructors = new HashMap<>();
+	private final Map<Class<?>, GroundCodec<?>> groundCodecs = new HashMap<>();
+	private final Map<String, Class<?>> classes = new HashMap<>();
+
+	/**
+	 * Use the given factory to recreate objects of a class when reading a snapshot. This is needed for
+	 * classes without a public no-argument constructor, and overrides the constructor otherwise.
+	 *
+	 * @param type    the exact class of the objects
+	 * @param factory makes a new object of that class
+	 * @param <T>     the class
+	 */
+	public <T> void register(Class<T> type, Supplier<? extends T> factory) {
+		factories.put(type, factory);
+	}
+
+	/**
+	 * Use the given codec to save the state of Grounds of a class (not its subclasses) and recreate them
+	 * from it. Without one, the state a Ground keeps of its own is lost. A codec overrides any factory
+	 * registered for the class.
+	 *
+	 * @param type  the exact class of the Grounds
+	 * @param codec the codec
+	 * @param <G>   the class of Ground
+	 */
+	public <G extends Ground> void register(Class<G> type, GroundCodec<G> codec) {
+		groundCodecs.put(type, codec);
+	}
+
+	/**
+	 * Write a snapshot of a World.
+	 * <p>
+	 * Everything in the World is checked before anything is written, except Grounds written by a
+	 * {@link GroundCodec}, which are checked as they are written.
+	 *
+	 * @param world   the World to save
+	 * @param channel where to write the snapshot; it is not closed
+	 * @throws IOException              if writing fails
+	 * @throws IllegalArgumentException if a Ground, Actor, Item or status effect in the World couldn't be
+	 *                                  recreated when the snapshot is read
+	 */
+	public void write(World world, WritableByteChannel channel) throws IOException {
+		List<MapLayout> layouts = new ArrayList<>(world.gameMaps.size());
+		for (GameMap map : world.gameMaps) {
+			layouts.add(layOut(map));
+		}
+		List<Actor> actors = new ArrayList<>();
+		for (Actor actor : world.actorLocations) {
+			checkCanRecreate(actor);
+			actors.add(actor);
+		}
+
+		SnapshotWriter out = new SnapshotWriter(channel);
+		out.writeInt(MAGIC);
+		out.writeVarInt(VERSION);
+
+		out.writeVarInt(layouts.size());
+		for (MapLayout layout : layouts) {
+			writeMap(out, layout);
+		}
+
+		out.writeVarInt(actors.size());
+		for (Actor actor : actors) {
+			writeActor(out, world, actor);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Restore a World from a snapshot, replacing all its Grounds, Items and Actors.
+	 * <p>
+	 * The whole snapshot is read before the World is changed, so if reading fails the World is left as it was.
+	 *
+	 * @param world   the World to restore, set up with the same GameMaps as the one saved
+	 * @param channel where to read the snapshot from; it is not closed
+	 * @throws IOException              if reading fails, the snapshot is malformed or of another version,
+	 *                                  or it names a class that can't be recreated
+	 * @throws IllegalArgumentException if the World's GameMaps don't match the snapshot's
+	 */
+	public void read(World world, ReadableByteChannel channel) throws IOException {
+		SnapshotReader in = new SnapshotReader(channel);
+		if (in.readInt() != MAGIC)
+			throw new StreamCorruptedException("Not a World snapshot");
+		int version = in.readVarInt();
+		if (version != VERSION)
+			throw new IOException("Can't read version " + version + " snapshots, only version " + VERSION);
+		int mapCount = in.readVarInt();
+		if (mapCount != world.gameMaps.size())
+			throw new IllegalArgumentException(String.format("The snapshot has %d maps, but the World has %d",
+					mapCount, world.gameMaps.size()));
+
+		List<MapContents> maps = new ArrayList<>(mapCount);
+		for (GameMap map : world.gameMaps) {
+			maps.add(readMap(in, map));
+		}
+
+		int actorCount = in.readVarInt();
+		List<PlacedActor> actors = new ArrayList<>(actorCount);
+		Set<Location> occupied = new HashSet<>();
+		for (int i = 0; i < actorCount; i++) {
+			PlacedActor placed = readActor(in, world);
+			if (!occupied.add(placed.location))
+				throw new StreamCorruptedException("More than one actor at " + placed.location);
+			actors.add(placed);
+		}
+
+		// Everything has been read, so the World can be replaced
+		clear(world);
+		for (MapContents contents : maps) {
+			contents.apply();
+		}
+		for (PlacedActor placed : actors) {
+			if (placed.isPlayer)
+				world.addPlayer(placed.actor, placed.location);
+			else
+				placed.location.map().addActor(placed.actor, placed.location);
+		}
+	}
+
+	/**
+	 * Remove every Actor from the World, and every Item from its maps.
+	 */
+	private void clear(World world) {
+		List<Actor> actors = new ArrayList<>();
+		for (Actor actor : world.actorLocations) {
+			actors.add(actor);
+		}
+		for (Actor actor : actors) {
+			world.actorLocations.remove(actor);
+		}
+		world.player = null;
+		world.lastActionMap.clear();
+
+		for (GameMap map : world.gameMaps) {
+			map.getYRange().forEachInt(y -> map.getXRange().forEachInt(x -> {
+				Location location = map.at(x, y);
+				if (location.getItems().isEmpty())
+					return;
+				for (Item item : new ArrayList<>(location.getItems())) {
+					location.removeItem(item);
+				}
+			}));
+		}
+	}
+
+	/**
+	 * Work out a map's Ground palette and which Locations have Items, checking that they can all be recreated.
+	 */
+	private MapLayout layOut(GameMap map) {
+		int width = map.getXRange().size();
+		int height = map.getYRange().size();
+		MapLayout layout = new MapLayout(map, width * height);
+
+		// Most Locations share a handful of Ground instances, so look them up by identity first
+		Map<Ground, Integer> byInstance = new IdentityHashMap<>();
+		Map<String, Integer> byKind = new HashMap<>();
+		Ground lastGround = null;
+		int lastIndex = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				Location location = map.at(x, y);
+				Ground ground = location.getGround();
+				if (ground != lastGround) {
+					Integer index = byInstance.get(ground);
+					if (index == null) {
+						// Grounds with state of their own each get an entry, as their state is saved with it
+						boolean stateful = groundCodecs.containsKey(ground.getClass());
+						String kind = ground.getClass().getName() + ' ' + ground.getDisplayChar();
+						index = stateful ? null : byKind.get(kind);
+						if (index == null) {
+							if (!stateful)
+								checkCanRecreate(map, ground);
+							index = layout.palette.size();
+							layout.palette.add(ground);
+							if (!stateful)
+								byKind.put(kind, index);
+						}
+						byInstance.put(ground, index);
+					}
+					lastGround = ground;
+					lastIndex = index;
+				}
+				layout.cells[y * width + x] = lastIndex;
+				if (!location.getItems().isEmpty()) {
+					for (Item item : location.getItems()) {
+						checkCanRecreate(item.getClass());
+					}
+					layout.itemLocations.add(location);
+				}
+			}
+		}
+		return layout;
+	}
+
+	private void writeMap(SnapshotWriter out, MapLayout layout) throws IOException {
+		GameMap map = layout.map;
+		int width = map.getXRange().size();
+		out.writeString(map.name);
+		out.writeVarInt(width);
+		out.writeVarInt(map.getYRange().size());
+
+		List<Ground> palette = layout.palette;
+		out.writeVarInt(palette.size());
+		for (Ground ground : palette) {
+			writeGround(out, map, ground);
+		}
+		for (int cell : layout.cells) {
+			if (palette.size() <= 1 << 8)
+				out.writeByte(cell);
+			else if (palette.size() <= 1 << 16)
+				out.writeShort(cell);
+			else
+				out.writeInt(cell);
+		}
+
+		out.writeVarInt(layout.itemLocations.size());
+		int previous = 0;
+		for (Location location : layout.itemLocations) {
+			int cell = location.y() * width + location.x();
+			out.writeVarInt(cell - previous);
+			previous = cell;
+			writeItems(out, location.getItems());
+		}
+	}
+
+	private MapContents readMap(SnapshotReader in, GameMap map) throws IOException {
+		String name = in.readString();
+		int width = in.readVarInt();
+		int height = in.readVarInt();
+		if (!name.equals(map.name) || width != map.getXRange().size() || height != map.getYRange().size())
+			throw new IllegalArgumentException(String.format("The snapshot has a %dx%d map called %s where the World has a %dx%d map called %s",
+					width, height, name, map.getXRange().size(), map.getYRange().size(), map.name));
+
+		int paletteSize = in.readVarInt();
+		String[] types = new String[paletteSize];
+		char[] displayChars = new char[paletteSize];
+		Ground[] shared = new Ground[paletteSize];
+		for (int i = 0; i < paletteSize; i++) {
+			types[i] = in.readSymbol();
+			displayChars[i] = (char) in.readVarInt();
+			// A Ground saved with its state is recreated once, for every Location it was on
+			if (in.readBoolean())
+				shared[i] = readState(in, map, types[i]);
+		}
+
+		MapContents contents = new MapContents(map, width * height);
+		for (int cell = 0; cell < width * height; cell++) {
+			int index;
+			if (paletteSize <= 1 << 8)
+				index = in.readByte();
+			else if (paletteSize <= 1 << 16)
+				index = in.readShort();
+			else
+				index = in.readInt();
+			if (index >= paletteSize)
+				throw new StreamCorruptedException("Ground " + index + " isn't in the palette of " + name);
+
+			Ground ground = shared[index];
+			if (ground == null) {
+				ground = newGround(map, types[index], displayChars[index]);
+				if (ground.isShareable())
+					shared[index] = ground;
+			}
+			contents.grounds[cell] = ground;
+		}
+
+		int itemCells = in.readVarInt();
+		int cell = 0;
+		for (int i = 0; i < itemCells; i++) {
+			cell += in.readVarInt();
+			if (cell >= width * height)
+				throw new StreamCorruptedException("Items off the edge of " + name);
+			contents.itemCells.add(cell);
+			contents.items.add(readItems(in));
+		}
+		return contents;
+	}
+
+	/**
+	 * Write a Ground: its class and display character, then its state if it has a codec.
+	 *
+	 * @throws IllegalArgumentException if the Ground has no codec and couldn't be recreated
+	 */
+	void writeGround(SnapshotWriter out, GameMap map, Ground ground) throws IOException {
+		GroundCodec<Ground> codec = codecFor(ground.getClass());
+		if (codec == null)
+			checkCanRecreate(map, ground);
+		out.writeSymbol(ground.getClass().getName());
+		out.writeVarInt(ground.getDisplayChar());
+		out.writeBoolean(codec != null);
+		if (codec != null)
+			codec.write(ground, new GroundOutput(this, out, map));
+	}
+
+	/**
+	 * Read a Ground written by {@link #writeGround(SnapshotWriter, GameMap, Ground)}.
+	 */
+	Ground readGround(SnapshotReader in, GameMap map) throws IOException {
+		String type = in.readSymbol();
+		char displayChar = (char) in.readVarInt();
+		return in.readBoolean() ? readState(in, map, type) : newGround(map, type, displayChar);
+	}
+
+	private Ground readState(SnapshotReader in, GameMap map, String type) throws IOException {
+		Class<?> groundClass = classFor(type, Ground.class);
+		GroundCodec<Ground> codec = codecFor(groundClass);
+		if (codec == null)
+			throw new InvalidClassException(type, "was saved with its state; register a GroundCodec for it");
+		Ground ground = codec.read(new GroundInput(this, in, map));
+		if (ground == null || ground.getClass() != groundClass)
+			throw new InvalidClassException(type, "its GroundCodec made " + (ground == null ? "null" : "a " + ground.getClass().getName()));
+		return ground;
+	}
+
+	private Ground newGround(GameMap map, String type, char displayChar) throws IOException {
+		Class<?> groundClass = classFor(type, Ground.class);
+		Supplier<?> factory = factories.get(groundClass);
+		Ground ground = null;
+		if (factory != null)
+			ground = (Ground) factory.get();
+		else if (map.groundFactory.canCreate(displayChar))
+			ground = map.groundFactory.newGround(displayChar);
+		if (ground == null || ground.getClass() != groundClass)
+			throw new InvalidClassException(type, "can't recreate Ground '" + displayChar + "'; register a factory for it");
+		return ground;
+	}
+
+	/**
+	 * Check that a Ground without a codec can be recreated: by a registered factory, or by the map's
+	 * GroundFactory giving back the same class for its display character.
+	 */
+	private void checkCanRecreate(GameMap map, Ground ground) {
+		Class<?> type = ground.getClass();
+		if (factories.containsKey(type))
+			return;
+		char displayChar = ground.getDisplayChar();
+		if (map.groundFactory.canCreate(displayChar)) {
+			Ground recreated = map.groundFactory.newGround(displayChar);
+			if (recreated != null && recreated.getClass() == type)
+				return;
+		}
+		throw new IllegalArgumentException(String.format("%s '%c' on %s can't be recreated by the map's GroundFactory;"
+				+ " register a factory for it, or a GroundCodec if it has state of its own", type.getName(), displayChar, map));
+	}
+
+	@SuppressWarnings("unchecked")
+	private GroundCodec<Ground> codecFor(Class<?> type) {
+		return (GroundCodec<Ground>) groundCodecs.get(type);
+	}
+
+	/**
+	 * Check that an Actor, the Items it carries and its status effects can be recreated.
+	 */
+	private void checkCanRecreate(Actor actor) {
+		checkCanRecreate(actor.getClass());
+		for (Item item : actor.getItemInventory()) {
+			checkCanRecreate(item.getClass());
+		}
+		for (StatusEffect effect : actor.getStatusEffects()) {
+			checkCanRecreate(effect.getClass());
+		}
+	}
+
+	private void writeActor(SnapshotWriter out, World world, Actor actor) throws IOException {
+		Location location = world.actorLocations.locationOf(actor);
+		out.writeSymbol(actor.getClass().getName());
+		out.writeVarInt(world.gameMaps.indexOf(location.map()));
+		out.writeVarInt(location.x());
+		out.writeVarInt(location.y());
+		out.writeBoolean(actor == world.player);
+		writeCapabilities(out, actor);
+
+		List<Enum<?>> attributes = actor.getAttributeNames();
+		out.writeVarInt(attributes.size());
+		for (Enum<?> attribute : attributes) {
+			writeEnum(out, attribute);
+			out.writeSignedVarInt(actor.getAttribute(attribute));
+			out.writeSignedVarInt(actor.getAttributeMaximum(attribute));
+		}
+		out.writeSignedVarInt(actor.getBalance());
+		writeItems(out, actor.getItemInventory());
+
+		List<StatusEffect> effects = actor.getStatusEffects();
+		out.writeVarInt(effects.size());
+		for (StatusEffect effect : effects) {
+			out.writeSymbol(effect.getClass().getName());
+		}
+	}
+
+	/**
+	 * Read an Actor, recreated with its saved state but not yet placed.
+	 */
+	private PlacedActor readActor(SnapshotReader in, World world) throws IOException {
+		Actor actor = newInstance(in.readSymbol(), Actor.class);
+		int mapIndex = in.readVarInt();
+		if (mapIndex >= world.gameMaps.size())
+			throw new StreamCorruptedException("Actor on map " + mapIndex + " of " + world.gameMaps.size());
+		GameMap map = world.gameMaps.get(mapIndex);
+		int x = in.readVarInt();
+		int y = in.readVarInt();
+		if (!map.getXRange().contains(x) || !map.getYRange().contains(y))
+			throw new StreamCorruptedException("Actor off the edge of " + map);
+		boolean isPlayer = in.readBoolean();
+		readCapabilities(in, actor);
+
+		int attributeCount = in.readVarInt();
+		for (int i = 0; i < attributeCount; i++) {
+			Enum<?> attribute = readEnum(in);
+			int value = in.readSignedVarInt();
+			int maximum = in.readSignedVarInt();
+			if (actor.hasAttribute(attribute))
+				actor.modifyAttributeMaximum(attribute, ActorAttributeOperations.UPDATE, maximum);
+			else
+				actor.addAttribute(attribute, new BaseActorAttribute(maximum));
+			actor.modifyAttribute(attribute, ActorAttributeOperations.UPDATE, value);
+		}
+		actor.addBalance(in.readSignedVarInt() - actor.getBalance());
+
+		for (Item item : new ArrayList<>(actor.getItemInventory())) {
+			actor.removeItemFromInventory(item);
+		}
+		for (Item item : readItems(in)) {
+			actor.addItemToInventory(item);
+		}
+
+		for (StatusEffect effect : new ArrayList<>(actor.getStatusEffects())) {
+			actor.removeStatusEffect(effect);
+		}
+		int effectCount = in.readVarInt();
+		for (int i = 0; i < effectCount; i++) {
+			actor.addStatusEffect(newInstance(in.readSymbol(), StatusEffect.class));
+		}
+
+		return new PlacedActor(actor, map.at(x, y), isPlayer);
+	}
+
+	private void writeItems(SnapshotWriter out, List<Item> items) throws IOException {
+		out.writeVarInt(items.size());
+		for (Item item : items) {
+			out.writeSymbol(item.getClass().getName());
+			out.writeBoolean(item.isPortable());
+			writeCapabilities(out, item);
+		}
+	}
+
+	private List<Item> readItems(SnapshotReader in) throws IOException {
+		int count = in.readVarInt();
+		List<Item> items = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Item item = newInstance(in.readSymbol(), Item.class);
+			if (item.isPortable() != in.readBoolean())
+				item.togglePortability();
+			readCapabilities(in, item);
+			items.add(item);
+		}
+		return items;
+	}
+
+	private void writeCapabilities(SnapshotWriter out, GameEntity entity) throws IOException {
+		List<Enum<?>> capabilities = entity.capabilitiesList();
+		out.writeVarInt(capabilities.size());
+		for (Enum<?> capability : capabilities) {
+			writeEnum(out, capability);
+		}
+	}
+
+	/**
+	 * Replace the capabilities a new entity was constructed with by the saved ones.
+	 */
+	private void readCapabilities(SnapshotReader in, GameEntity entity) throws IOException {
+		for (Enum<?> capability : entity.capabilitiesList()) {
+			entity.removeCapability(capability);
+		}
+		int count = in.readVarInt();
+		for (int i = 0; i < count; i++) {
+			entity.addCapability(readEnum(in));
+		}
+	}
+
+	private void writeEnum(SnapshotWriter out, Enum<?> constant) throws IOException {
+		out.writeSymbol(constant.getDeclaringClass().getName());
+		out.writeSymbol(constant.name());
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Enum<?> readEnum(SnapshotReader in) throws IOException {
+		String type = in.readSymbol();
+		String name = in.readSymbol();
+		Class<?> enumClass = classFor(type, Enum.class);
+		try {
+			return Enum.valueOf((Class) enumClass, name);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidClassException(type, "has no constant " + name);
+		}
+	}
+
+	private Class<?> classFor(String name, Class<?> base) throws InvalidClassException {
+		Class<?> type = classes.get(name);
+		if (type == null) {
+			try {
+				type = Class.forName(name);
+			} catch (ClassNotFoundException e) {
+				throw new InvalidClassException(name, "not found");
+			}
+			if (!base.isAssignableFrom(type))
+				throw new InvalidClassException(name, "is not a " + base.getSimpleName());
+			classes.put(name, type);
+		}
+		return type;
+	}
+
+	private <T> T newInstance(String name, Class<T> base) throws InvalidClassException {
+		Class<?> type = classFor(name, base);
+		Supplier<?> factory = factory(type);
+		if (factory == null)
+			throw new InvalidClassException(name, "has no public no-argument constructor; register a factory for it");
+		return base.cast(factory.get());
+	}
+
+	private void checkCanRecreate(Class<?> type) {
+		if (factory(type) == null)
+			throw new IllegalArgumentException(type.getName() + " has no public no-argument constructor; register a factory for it");
+	}
+
+	/**
+	 * Returns the registered factory for a class, or one calling its public no-argument constructor.
+	 *
+	 * @return the factory, or null if there is neither
+	 */
+	private Supplier<?> factory(Class<?> type) {
+		Supplier<?> factory = factories.get(type);
+		if (factory != null)
+			return factory;
+		if (constructors.containsKey(type))
+			return constructors.get(type);
+
+		Supplier<?> constructor = null;
+		if (!Modifier.isAbstract(type.getModifiers()) && Modifier.isPublic(type.getModifiers())) {
+			try {
+				MethodHandle handle = MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class));
+				constructor = () -> {
+					try {
+						return handle.invoke();
+					} catch (RuntimeException | Error e) {
+						throw e;
+					} catch (Throwable e) {
+						throw new IllegalStateException(e);
+					}
+				};
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				// Only a registered factory will do
+			}
+		}
+		constructors.put(type, constructor);
+		return constructor;
+	}
+
+	/**
+	 * What is written about a GameMap: the palette of its Grounds, the palette index of every Location,
+	 * and the Locations with Items.
+	 */
+	private static class MapLayout {
+		private final GameMap map;
+		private final List<Ground> palette = new ArrayList<>();
+		private final int[] cells;
+		private final List<Location> itemLocations = new ArrayList<>();
+
+		private MapLayout(GameMap map, int size) {
+			this.map = map;
+			this.cells = new int[size];
+		}
+	}
+
+	/**
+	 * What has been read about a GameMap, held until the whole snapshot has been read.
+	 */
+	private static class MapContents {
+		private final GameMap map;
+		private final Ground[] grounds;
+		private final List<Integer> itemCells = new ArrayList<>();
+		private final List<List<Item>> items = new ArrayList<>();
+
+		private MapContents(GameMap map, int size) {
+			this.map = map;
+			this.grounds = new Ground[size];
+		}
+
+		/**
+		 * Put the Grounds and Items read onto the map, which must have no Items.
+		 */
+		private void apply() {
+			int width = map.getXRange().size();
+			for (int cell = 0; cell < grounds.length; cell++) {
+				Location location = map.at(cell % width, cell / width);
+				if (location.getGround() != grounds[cell])
+					location.setGround(grounds[cell]);
+			}
+			for (int i = 0; i < itemCells.size(); i++) {
+				int cell = itemCells.get(i);
+				Location location = map.at(cell % width, cell / width);
+				for (Item item : items.get(i)) {
+					location.addItem(item);
+				}
+			}
+		}
+	}
+
+	/**
+	 * An Actor that has been read, and where to place it once the whole snapshot has been read.
+	 */
+	private static class PlacedActor {
+		private final Actor actor;
+		private final Location location;
+		private final boolean isPlayer;
+
+		private PlacedActor(Actor actor, Location location, boolean isPlayer) {
+			this.actor = actor;
+			this.location = location;
+			this.isPlayer = isPlayer;
+		}
+	}
+}
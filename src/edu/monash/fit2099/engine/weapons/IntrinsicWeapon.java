@@ -3,8 +3,6 @@ package edu.monash.fit2099.engine.weapons;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.positions.GameMap;
 
-import java.util.Random;
-
 /**
  * Class that represents a weapon for an unarmed Actor (e.g. fists, claws, etc.)
  * Since the attack is done without the use of any item, e.g., damage is dealt by punching
@@ -46,7 +44,8 @@ public abstract class IntrinsicWeapon implements Weapon {
 
     /**
      * Sample implementation of the attack method of the intrinsic weapon.
-     * If the hit rate is not met, the attacker misses the target.
+     * If the hit rate is not met, the attacker misses the target. The roll uses the attacker's
+     * own random numbers, see {@link Actor#getRandom()}.
      * Otherwise, the target is hit, hurting the target by the intrinsic weapon's damage
      *
      * @param attacker the actor who performed the attack
@@ -56,8 +55,7 @@ public abstract class IntrinsicWeapon implements Weapon {
      */
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        Random rand = new Random();
-        if (!(rand.nextInt(100) < this.hitRate)) {
+        if (!(attacker.getRandom().nextInt(100) < this.hitRate)) {
             return attacker + " misses " + target + ".";
         }
 
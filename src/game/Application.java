@@ -33,6 +33,39 @@ public class Application {
 
         World world = new World(new Display());
 
+        GameMap gameMap = createGravesitePlain(world);
+
+        // BEHOLD, ELDEN THING!
+        for (String line : FancyMessage.TITLE.split("\n")) {
+            new Display().println(line);
+            try {
+                Thread.sleep(200);
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+        }
+
+        populate(world, gameMap);
+
+        world.run();
+
+        for (String line : FancyMessage.YOU_DIED.split("\n")) {
+            new Display().println(line);
+            try {
+                Thread.sleep(200);
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Creates the Gravesite Plain map and adds it to the world.
+     *
+     * @param world the World the map belongs to
+     * @return the Gravesite Plain map
+     */
+    static GameMap createGravesitePlain(World world) {
         FancyGroundFactory groundFactory = new FancyGroundFactory(new Dirt(),
                 new Wall(), new Floor(), new Puddle());
 
@@ -50,17 +83,17 @@ public class Application {
 
         GameMap gameMap = new GameMap("Gravesite Plain", groundFactory, map);
         world.addGameMap(gameMap);
+        return gameMap;
+    }
 
-        // BEHOLD, ELDEN THING!
-        for (String line : FancyMessage.TITLE.split("\n")) {
-            new Display().println(line);
-            try {
-                Thread.sleep(200);
-            } catch (Exception exception) {
-                exception.printStackTrace();
-            }
-        }
-
+    /**
+     * Places the player, the Furnace Golem and the starting items on the Gravesite Plain.
+     *
+     * @param world   the World to add the player to
+     * @param gameMap the Gravesite Plain map
+     * @return the player
+     */
+    static Player populate(World world, GameMap gameMap) {
         Player player = new Player("Tarnished", '@', 150,  100, 5);
         world.addPlayer(player, gameMap.at(7, 4));
 
@@ -78,15 +111,6 @@ public class Application {
         gameMap.at(0, 0).addItem(new ShadowTreeFragment());
         gameMap.at(1, 4).addItem(new ShadowTreeFragment());
 
-        world.run();
-
-        for (String line : FancyMessage.YOU_DIED.split("\n")) {
-            new Display().println(line);
-            try {
-                Thread.sleep(200);
-            } catch (Exception exception) {
-                exception.printStackTrace();
-            }
-        }
+        return player;
     }
 }
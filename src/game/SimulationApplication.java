@@ -0,0 +1,52 @@
+package game;
+
+import edu.monash.fit2099.engine.actors.RandomActionSelector;
+import edu.monash.fit2099.engine.positions.GameMap;
+import edu.monash.fit2099.engine.positions.HeadlessWorld;
+import edu.monash.fit2099.engine.positions.TurnTimings;
+
+import java.nio.file.Paths;
+
+/**
+ * Runs unattended Gravesite Plain simulations without any console I/O and reports the throughput.
+ * <p>
+ * Usage: {@code SimulationApplication [runs] [turnLimit] [seed] [timings.csv|timings.json]}
+ * </p>
+ * <p>
+ * Run {@code n} is seeded with {@code seed + n}, so the same arguments always play out the same games.
+ * If a timings file is given, how long each phase of a turn took across all the runs is written to it.
+ * </p>
+ */
+public class SimulationApplication {
+
+    public static void main(String[] args) {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int turnLimit = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        TurnTimings timings = null;
+        if (args.length > 3) {
+            timings = new TurnTimings();
+            timings.setReport(Paths.get(args[3]));
+        }
+
+        long totalTurns = 0;
+        long totalNanos = 0;
+        for (int run = 0; run < runs; run++) {
+            HeadlessWorld world = new HeadlessWorld();
+            world.setTurnLimit(turnLimit);
+            world.setSeed(seed + run);
+            world.setPlayerSelector(new RandomActionSelector());
+            world.setTimings(timings);
+
+            GameMap gameMap = Application.createGravesitePlain(world);
+            Application.populate(world, gameMap);
+
+            world.run();
+            totalTurns += world.getTurnCount();
+            totalNanos += world.getElapsedNanos();
+        }
+
+        System.out.printf("%d runs, %d turns in %.3f s (%.0f turns/s)%n",
+                runs, totalTurns, totalNanos / 1e9, totalTurns / (totalNanos / 1e9));
+    }
+}
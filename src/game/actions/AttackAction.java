@@ -67,6 +67,36 @@ public class AttackAction extends Action {
         this.direction = direction;
     }
 
+    /**
+     * Returns the actor being attacked.
+     *
+     * @return the target actor
+     */
+
+    public Actor getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the direction of the attack, as shown in the menu.
+     *
+     * @return the direction
+     */
+
+    public String getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns the weapon used for the attack.
+     *
+     * @return the weapon, or null if the actor's intrinsic weapon will be used
+     */
+
+    public Weapon getWeapon() {
+        return weapon;
+    }
+
     /**
      * Executes the attack action.
      * <p>
@@ -21,7 +21,7 @@ public class FollowAction extends MoveActorAction {
      * The target actor that is being followed.
      */
 
-    private String target;
+    private final Actor target;
 
     /**
      * Constructor to create a FollowAction that will move the actor to a specific location of a target.
@@ -31,12 +31,22 @@ public class FollowAction extends MoveActorAction {
      * </p>
      *
      * @param moveToLocation the location to move to
-     * @param target the target actor to follow, described as a string (e.g., "Player")
+     * @param target the target actor to follow
      */
 
     public FollowAction(Location moveToLocation, Actor target) {
         super(moveToLocation, target.toString());
-        this.target = target.toString();
+        this.target = target;
+    }
+
+    /**
+     * Returns the actor being followed.
+     *
+     * @return the target actor
+     */
+
+    public Actor getTarget() {
+        return target;
     }
 
     /**
@@ -0,0 +1,72 @@
+package game.actions;
+
+import edu.monash.fit2099.engine.items.Item;
+import edu.monash.fit2099.engine.positions.ActionCodec;
+import edu.monash.fit2099.engine.positions.ActionCodecs;
+import edu.monash.fit2099.engine.positions.JournalInput;
+import edu.monash.fit2099.engine.positions.JournalOutput;
+import edu.monash.fit2099.engine.weapons.Weapon;
+
+import java.io.IOException;
+
+/**
+ * The codecs needed to journal and replay this game's actions.
+ * <p>
+ * Only actions that the game's behaviours create need one: attacking and following. Actions the
+ * player picks from the menu are journalled by their place in it.
+ * </p>
+ */
+public class GameActionCodecs {
+
+    /**
+     * Kinds of weapon an attack can be made with
+     */
+    private static final int INTRINSIC = 0;
+    private static final int ITEM = 1;
+
+    private GameActionCodecs() {
+    }
+
+    /**
+     * Creates the codecs for the engine's actions and this game's.
+     *
+     * @return the codecs
+     */
+    public static ActionCodecs create() {
+        ActionCodecs codecs = new ActionCodecs();
+        codecs.register(AttackAction.class, new ActionCodec<AttackAction>() {
+            @Override
+            public void write(AttackAction action, JournalOutput out) throws IOException {
+                out.writeActor(action.getTarget());
+                out.writeString(action.getDirection());
+                // Anything that isn't an item is the attacker's intrinsic weapon
+                Weapon weapon = action.getWeapon();
+                if (weapon instanceof Item) {
+                    out.writeInt(ITEM);
+                    out.writeItem((Item) weapon);
+                } else {
+                    out.writeInt(INTRINSIC);
+                }
+            }
+
+            @Override
+            public AttackAction read(JournalInput in) throws IOException {
+                return new AttackAction(in.readActor(), in.readString(),
+                        in.readInt() == ITEM ? (Weapon) in.readItem() : null);
+            }
+        });
+        codecs.register(FollowAction.class, new ActionCodec<FollowAction>() {
+            @Override
+            public void write(FollowAction action, JournalOutput out) throws IOException {
+                out.writeLocation(action.getDestination());
+                out.writeActor(action.getTarget());
+            }
+
+            @Override
+            public FollowAction read(JournalInput in) throws IOException {
+                return new FollowAction(in.readLocation(), in.readActor());
+            }
+        });
+        return codecs;
+    }
+}
@@ -5,6 +5,7 @@ import edu.monash.fit2099.engine.actions.ActionList;
 import edu.monash.fit2099.engine.actions.DoNothingAction;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
+import edu.monash.fit2099.engine.actors.BehaviourSet;
 import edu.monash.fit2099.engine.displays.Display;
 import edu.monash.fit2099.engine.positions.GameMap;
 
@@ -16,9 +17,6 @@ import game.behaviour.FollowBehaviour;
 import game.behaviour.StompBehaviour;
 import game.behaviour.WanderBehaviour;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Represents the Furnace Golem, a powerful entity in the game.
  * <p>
@@ -27,7 +25,7 @@ import java.util.Map;
  * </p>
  * <p>
  * This class demonstrates a variety of behaviors, including wandering, following, and stomping.
- * The behaviours are stored in a map, prioritized by an integer key, where lower values represent
+ * The behaviours are stored in a {@link BehaviourSet}, prioritized by an integer key, where lower values represent
  * higher priority behaviors.
  * </p>
  *
@@ -42,11 +40,19 @@ import java.util.Map;
 public class FurnaceGolem extends Actor {
 
     /**
-     * A map of behaviors for the Furnace Golem, prioritized by integer keys.
+     * The behaviors of the Furnace Golem, prioritized by integer keys.
      * Lower integer values indicate higher priority behaviors.
      */
 
-    private Map<Integer, Behaviour> behaviours = new HashMap<>();
+    private final BehaviourSet behaviours = new BehaviourSet();
+
+    /**
+     * The hostile actor the Golem is currently following and stomping, if any.
+     */
+
+    private Actor hostileTarget;
+
+    private final DoNothingAction doNothingAction = new DoNothingAction();
 
     /**
      * Constructor to create a Furnace Golem with high health and default behaviors.
@@ -78,13 +84,11 @@ public class FurnaceGolem extends Actor {
 
     @Override
     public Action playTurn(ActionList actions, Action lastAction, GameMap map, Display display) {
-        // Iterate through the behaviors, prioritizing lower keys
-        for (Behaviour behaviour : behaviours.values()) {
-            Action action = behaviour.getAction(this, map);  // Get the next action based on the behavior
-            if (action != null)
-                return action;  // Perform the first available action
-        }
-        return new DoNothingAction();  // If no action is available, do nothing
+        // Consult the behaviors, prioritizing lower keys, and perform the first available action
+        Action action = behaviours.getAction(this, map);
+        if (action != null)
+            return action;
+        return doNothingAction;  // If no action is available, do nothing
     }
 
     /**
@@ -107,9 +111,12 @@ public class FurnaceGolem extends Actor {
         // Check if the other actor is hostile towards the Golem
         if (otherActor.hasCapability(Status.HOSTILE_TO_ENEMY)) {
             actions.add(new AttackAction(this, direction));  // Allow the other actor to attack the Golem
-            // Update behaviors to follow and stomp the hostile actor
-            this.behaviours.put(999, new FollowBehaviour(otherActor));  // Follow hostile actor with a lower priority
-            this.behaviours.put(1, new StompBehaviour(otherActor));  // Stomp the hostile actor with a higher priority
+            // Update behaviors to follow and stomp the hostile actor, unless they are already doing so
+            if (otherActor != hostileTarget) {
+                hostileTarget = otherActor;
+                this.behaviours.put(999, new FollowBehaviour(otherActor));  // Follow hostile actor with a lower priority
+                this.behaviours.put(1, new StompBehaviour(otherActor));  // Stomp the hostile actor with a higher priority
+            }
         }
 
         return actions;  // Return the list of allowable actions
@@ -4,6 +4,7 @@ import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
 import edu.monash.fit2099.engine.positions.Exit;
+import edu.monash.fit2099.engine.positions.FlowField;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actions.FollowAction;
@@ -11,9 +12,10 @@ import game.actions.FollowAction;
 /**
  * A class that determines a {@link FollowAction} to move the actor one step closer to a target Actor.
  * <p>
- * This behaviour allows an Actor to follow another Actor by finding the closest step toward the target
- * based on the Manhattan distance. If no closer step is found or the target is not on the map, the Actor
- * will remain in place.
+ * This behaviour allows an Actor to follow another Actor along the shortest path around terrain it
+ * cannot enter, using the map's shared {@link FlowField} towards the target. If the target cannot be
+ * reached that way, the Actor steps to whichever neighbouring location is closest to the target in a
+ * straight line. If no closer step is found or the target is not on the map, the Actor will remain in place.
  * </p>
  *
  * @see edu.monash.fit2099.demo.mars.behaviours.FollowBehaviour
@@ -48,8 +50,8 @@ public class FollowBehaviour implements Behaviour {
      * Determines the action that allows the actor to follow the target.
      * <p>
      * If the target is not present on the map, or if the actor cannot move closer,
-     * the method returns null. The actor will attempt to move to the closest location
-     * that reduces the distance to the target.
+     * the method returns null. The actor will attempt to move to the neighbouring location
+     * with the shortest path to the target.
      * </p>
      *
      * @param actor The actor performing the action.
@@ -66,14 +68,21 @@ public class FollowBehaviour implements Behaviour {
         Location here = map.locationOf(actor);
         Location there = map.locationOf(target);
 
-        // Calculate the current distance to the target
-        double currentDistance = distance(here, there);
+        // Follow the shortest path, if there is one
+        FlowField field = map.flowFieldTo(target, actor);
+        if (field.distanceAt(here) != FlowField.UNREACHABLE) {
+            Exit step = field.nextStep(actor, here);
+            return step == null ? null : new FollowAction(step.getDestination(), target);
+        }
+
+        // Otherwise get as close as possible in a straight line
+        int currentDistance = distance(here, there);
         for (Exit exit : here.getExits()) {
             Location destination = exit.getDestination();
             // Check if the destination location can be entered by the actor
             if (destination.canActorEnter(actor)) {
                 // Calculate the distance to the target from the destination
-                double newDistance = distance(destination, there);
+                int newDistance = distance(destination, there);
                 // If moving to the destination reduces the distance to the target, return a FollowAction
                 if (newDistance < currentDistance) {
                     return new FollowAction(destination, target);
@@ -86,18 +95,20 @@ public class FollowBehaviour implements Behaviour {
     }
 
     /**
-     * Computes the Manhattan distance between two locations.
+     * Computes the squared straight-line distance between two locations.
      * <p>
-     * The Manhattan distance is the number of steps required to move from one location to another
-     * if only moving in the four cardinal directions (north, south, east, west).
+     * Squaring keeps the comparison exact and avoids a square root, and orders
+     * locations the same way as the distance itself.
      * </p>
      *
      * @param a the first location
      * @param b the second location
-     * @return the Manhattan distance between the two locations
+     * @return the squared distance between the two locations
      */
 
-    private double distance(Location a, Location b) {
-        return Math.sqrt(Math.pow(a.x() - b.x(), 2) + Math.pow(a.y() - b.y(), 2));
+    private int distance(Location a, Location b) {
+        int dx = a.x() - b.x();
+        int dy = a.y() - b.y();
+        return dx * dx + dy * dy;
     }
 }
@@ -3,7 +3,6 @@ package game.behaviour;
 import edu.monash.fit2099.engine.actions.Action;
 import edu.monash.fit2099.engine.actors.Actor;
 import edu.monash.fit2099.engine.actors.Behaviour;
-import edu.monash.fit2099.engine.positions.Exit;
 import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actions.AttackAction;
@@ -11,7 +10,7 @@ import game.actions.AttackAction;
 /**
  * A class that represents a behaviour where an actor stomps on and attacks a target actor if they are adjacent.
  * <p>
- * This behaviour checks the exits around the actor to determine if the target actor is nearby. If the target is found,
+ * This behaviour checks the locations around the actor to determine if the target actor is nearby. If the target is found,
  * the behaviour returns an {@link AttackAction} to stomp the target. If the target is not adjacent, no action is taken.
  * </p>
  *
@@ -64,7 +63,7 @@ public class StompBehaviour extends Action implements Behaviour {
     /**
      * Determines the action that allows the actor to attack the target if the target is adjacent.
      * <p>
-     * The method checks all the adjacent locations (exits) of the actor. If the target is found in any of these locations,
+     * The method asks the map for the actors adjacent to the actor. If the target is one of them,
      * it returns an {@link AttackAction} to stomp the target. Otherwise, it returns null.
      * </p>
      *
@@ -80,21 +79,14 @@ public class StompBehaviour extends Action implements Behaviour {
 
         // Get the current location of the actor
         Location here = map.locationOf(actor);
-        Action getValue = null;
 
-        // Iterate through all adjacent locations (exits) of the actor
-        for (Exit exit : here.getExits()) {
-            Location destination = exit.getDestination();
-            Actor otherActor = map.getActorAt(destination);
-
-            // If the adjacent location contains the target actor, prepare an AttackAction
-            if (map.contains(otherActor) && otherActor.equals(target)) {
-                getValue = new AttackAction(target, "");
-            }
+        // If the target is in one of the adjacent locations, prepare an AttackAction
+        if (map.actorsWithin(here, 1).contains(target)) {
+            return new AttackAction(target, "");
         }
 
-        // Return the prepared AttackAction or null if the target is not adjacent
-        return getValue;
+        // Return null if the target is not adjacent
+        return null;
     }
 
     /**
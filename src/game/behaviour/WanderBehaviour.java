@@ -8,7 +8,6 @@ import edu.monash.fit2099.engine.positions.GameMap;
 import edu.monash.fit2099.engine.positions.Location;
 
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * A behaviour that causes an actor to wander to a random adjacent location.
@@ -24,18 +23,13 @@ import java.util.Random;
  */
 public class WanderBehaviour implements Behaviour {
 
-    /**
-     * Random number generator used to select a random move action.
-     */
-
-    private final Random random = new Random();
-
     /**
      * Returns a MoveAction to wander to a random location, if possible.
      * If no movement is possible, returns null.
      * <p>
      * This method collects all possible MoveActions for adjacent locations where the actor can move.
-     * It then randomly selects one of these actions to return. If no valid actions are available,
+     * It then randomly selects one of these actions to return, using the actor's own random numbers
+     * (see {@link Actor#getRandom()}). If no valid actions are available,
      * it returns null, meaning the actor will not move.
      * </p>
      *
@@ -62,7 +56,7 @@ public class WanderBehaviour implements Behaviour {
 
         // If there are valid actions, return a random one
         if (!actions.isEmpty()) {
-            return actions.get(random.nextInt(actions.size()));
+            return actions.get(actor.getRandom().nextInt(actions.size()));
         } else {
             // Return null if no valid move actions are available
             return null;
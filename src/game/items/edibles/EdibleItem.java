@@ -91,8 +91,9 @@ public abstract class EdibleItem extends Item {
 
     @Override
     public ActionList allowableActions(Actor owner) {
-        // Get the default list of actions
-        ActionList actions = super.allowableActions(owner);
+        // Start from the default list of actions (which is unmodifiable, so copy it)
+        ActionList actions = new ActionList();
+        actions.add(super.allowableActions(owner));
 
         // Add the consume action to the list of allowable actions
         actions.add(new ConsumeAction(this));
@@ -8,7 +8,7 @@ import edu.monash.fit2099.engine.weapons.IntrinsicWeapon;
 import game.utilities.Status;
 import game.terrain.FlamingTerrain;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A class representing a Bare Stomp weapon, which is an intrinsic weapon that allows an actor to stomp
@@ -54,7 +54,7 @@ public class BareStomp extends IntrinsicWeapon {
 
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        Random rand = new Random();
+        SplittableRandom rand = attacker.getRandom();
         // Determine if the attack hits based on the hit rate
         if (!(rand.nextInt(100) < this.hitRate)) {
             return attacker + " misses " + target + ".";
@@ -88,18 +88,17 @@ public class BareStomp extends IntrinsicWeapon {
         String result = "Furnace Golem's stomp attack results in a shockwave in the surrounding environment.";
         Location golemLocation = map.locationOf(attacker);
 
+        // Damage any actor in the adjacent locations
+        for (Actor nearbyActor : map.actorsWithin(golemLocation, 1)) {
+            if (nearbyActor != attacker) {
+                nearbyActor.hurt(DMG_EXPLODE);
+            }
+        }
+
         // Iterate through all adjacent locations (exits)
         for (Exit exit : golemLocation.getExits()) {
             Location nearbyLocation = exit.getDestination();
 
-            // Damage any actor in the adjacent location
-            if (nearbyLocation.containsAnActor()) {
-                Actor nearbyActor = nearbyLocation.getActor();
-                if (nearbyActor != attacker) {
-                    nearbyActor.hurt(DMG_EXPLODE);
-                }
-            }
-
             // Transform the terrain to FlamingTerrain if it has the burning capability
             if (nearbyLocation.getGround().hasCapability(Status.IS_BURNING)) {
                 nearbyLocation.setGround(new FlamingTerrain(nearbyLocation.getGround()));
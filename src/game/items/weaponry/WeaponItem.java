@@ -7,8 +7,6 @@ import edu.monash.fit2099.engine.weapons.Weapon;
 import edu.monash.fit2099.engine.positions.Location;
 import game.actors.UserAttributes;
 
-import java.util.Random;
-
 /**
  * Abstract class representing items that can be used as a weapon.
  * <p>
@@ -66,9 +64,8 @@ public abstract class WeaponItem extends Item implements Weapon {
 
     @Override
     public String attack(Actor attacker, Actor target, GameMap map) {
-        Random rand = new Random();
         // Determine if the attack hits based on the hit rate
-        if (!(rand.nextInt(100) < this.hitRate)) {
+        if (!(attacker.getRandom().nextInt(100) < this.hitRate)) {
             return attacker + " misses " + target + ".";
         }
 
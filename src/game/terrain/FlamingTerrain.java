@@ -38,6 +38,38 @@ public class FlamingTerrain extends Ground {
         this.addCapability(Status.IS_BURNING);
     }
 
+    /**
+     * Constructor for a fire that has already been burning for a while, e.g. one restored from a snapshot.
+     *
+     * @param originalGround The ground that this terrain replaces once the fire burns out.
+     * @param burnRoundsLeft The number of turns the fire will keep burning.
+     */
+
+    public FlamingTerrain(Ground originalGround, int burnRoundsLeft) {
+        this(originalGround);
+        this.burnRoundCounter = burnRoundsLeft;
+    }
+
+    /**
+     * Returns the ground that this terrain reverts to once the fire burns out.
+     *
+     * @return the original ground
+     */
+
+    public Ground getOriginalGround() {
+        return originalGround;
+    }
+
+    /**
+     * Returns the number of turns the fire will keep burning.
+     *
+     * @return the remaining burn rounds
+     */
+
+    public int getBurnRoundsLeft() {
+        return burnRoundCounter;
+    }
+
     /**
      * Method that is called every turn to update the terrain's state.
      * <p>
@@ -53,12 +85,11 @@ public class FlamingTerrain extends Ground {
         super.tick(location);
         burnRoundCounter--;
 
-        // Apply damage to the actor standing on the terrain
+        // Apply damage to the actor standing on the terrain; the engine records it as an ActorHurtEvent
         Actor actor = location.getActor();
         if (actor != null) {
             if (!(actor.hasCapability(Ability.FIRE_IMMUNE))) {
                 actor.hurt(dmgFromBurning);
-                System.out.println(actor + " takes " + dmgFromBurning + " fire damage!");
             }
         }
 
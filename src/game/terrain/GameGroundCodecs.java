@@ -0,0 +1,43 @@
+package game.terrain;
+
+import edu.monash.fit2099.engine.positions.GroundCodec;
+import edu.monash.fit2099.engine.positions.GroundInput;
+import edu.monash.fit2099.engine.positions.GroundOutput;
+import edu.monash.fit2099.engine.positions.WorldSnapshot;
+
+import java.io.IOException;
+
+/**
+ * The codecs needed to save this game's Grounds in a {@link WorldSnapshot}.
+ * <p>
+ * Only Grounds with state of their own need one: fire, which burns out after a few turns and
+ * turns back into the ground it replaced. The rest are recreated from the map's ground factory.
+ * </p>
+ */
+public class GameGroundCodecs {
+
+    private GameGroundCodecs() {
+    }
+
+    /**
+     * Creates a WorldSnapshot that can save and restore this game's Worlds.
+     *
+     * @return the snapshot
+     */
+    public static WorldSnapshot createSnapshot() {
+        WorldSnapshot snapshot = new WorldSnapshot();
+        snapshot.register(FlamingTerrain.class, new GroundCodec<FlamingTerrain>() {
+            @Override
+            public void write(FlamingTerrain ground, GroundOutput out) throws IOException {
+                out.writeGround(ground.getOriginalGround());
+                out.writeInt(ground.getBurnRoundsLeft());
+            }
+
+            @Override
+            public FlamingTerrain read(GroundInput in) throws IOException {
+                return new FlamingTerrain(in.readGround(), in.readInt());
+            }
+        });
+        return snapshot;
+    }
+}
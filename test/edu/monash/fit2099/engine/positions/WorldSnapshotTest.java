@@ -0,0 +1,136 @@
+package edu.monash.fit2099.engine.positions;
+
+import edu.monash.fit2099.engine.displays.HeadlessDisplay;
+import game.terrain.Dirt;
+import game.terrain.FlamingTerrain;
+import game.terrain.GameGroundCodecs;
+import game.terrain.Puddle;
+import game.terrain.Wall;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks that {@link WorldSnapshot}s save and restore Grounds with state of their own, refuse to save
+ * Grounds they couldn't restore, and leave the World alone when a snapshot can't be read.
+ * <p>
+ * Like the benchmarks, this source root sits beside {@code src} and has no dependencies beyond it, e.g.
+ * <pre>
+ * javac -encoding UTF-8 -d out/test $(find src test -name '*.java')
+ * java -cp out/test edu.monash.fit2099.engine.positions.WorldSnapshotTest
+ * </pre>
+ * It exits with a non-zero status if any check fails.
+ */
+public class WorldSnapshotTest {
+	private static int failures = 0;
+
+	public static void main(String[] args) throws IOException {
+		restoresStatefulGround();
+		refusesGroundThatCantBeRecreated();
+		failedReadLeavesWorldAlone();
+		readWithoutCodecFails();
+
+		if (failures > 0) {
+			System.out.println(failures + " check(s) failed");
+			System.exit(1);
+		}
+		System.out.println("All checks passed");
+	}
+
+	private static void restoresStatefulGround() throws IOException {
+		World world = newWorld();
+		GameMap map = world.gameMaps.get(0);
+		Dirt dirt = (Dirt) map.at(1, 1).getGround();
+		map.at(1, 1).setGround(new FlamingTerrain(dirt, 2));
+		map.at(2, 1).setGround(new FlamingTerrain(new Puddle(), 4));
+
+		WorldSnapshot snapshot = GameGroundCodecs.createSnapshot();
+		byte[] saved = write(snapshot, world);
+		World restored = newWorld();
+		snapshot.read(restored, Channels.newChannel(new ByteArrayInputStream(saved)));
+		GameMap restoredMap = restored.gameMaps.get(0);
+
+		Ground first = restoredMap.at(1, 1).getGround();
+		Ground second = restoredMap.at(2, 1).getGround();
+		check(first instanceof FlamingTerrain && second instanceof FlamingTerrain, "burning cells are restored as fire");
+		if (first instanceof FlamingTerrain && second instanceof FlamingTerrain) {
+			FlamingTerrain fire = (FlamingTerrain) first;
+			check(fire.getBurnRoundsLeft() == 2, "a fire's remaining turns are restored");
+			check(fire.getOriginalGround() == restoredMap.at(0, 0).getGround(), "a fire over Dirt turns back into the map's shared Dirt");
+			check(((FlamingTerrain) second).getBurnRoundsLeft() == 4, "each fire keeps its own remaining turns");
+			check(((FlamingTerrain) second).getOriginalGround() instanceof Puddle, "a fire turns back into the Ground it replaced");
+		}
+		check(Arrays.equals(saved, write(snapshot, restored)), "a restored World snapshots the same as the original");
+	}
+
+	private static void refusesGroundThatCantBeRecreated() throws IOException {
+		World world = newWorld();
+		world.gameMaps.get(0).at(1, 1).setGround(new FlamingTerrain(new Dirt()));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try {
+			new WorldSnapshot().write(world, Channels.newChannel(bytes));
+			check(false, "a Ground the map can't recreate is refused");
+		} catch (IllegalArgumentException e) {
+			check(e.getMessage().contains(FlamingTerrain.class.getName()), "the refusal names the Ground");
+		}
+		check(bytes.size() == 0, "nothing is written for a World that couldn't be restored");
+	}
+
+	private static void failedReadLeavesWorldAlone() throws IOException {
+		World world = newWorld();
+		world.gameMaps.get(0).at(1, 1).setGround(new FlamingTerrain(new Dirt(), 3));
+		WorldSnapshot snapshot = GameGroundCodecs.createSnapshot();
+		byte[] saved = write(snapshot, world);
+
+		World target = newWorld();
+		target.gameMaps.get(0).at(3, 2).setGround(new Wall());
+		byte[] before = write(snapshot, target);
+		try {
+			snapshot.read(target, Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(saved, saved.length - 1))));
+			check(false, "a truncated snapshot can't be read");
+		} catch (IOException e) {
+			check(Arrays.equals(before, write(snapshot, target)), "a truncated snapshot leaves the World as it was");
+		}
+	}
+
+	private static void readWithoutCodecFails() throws IOException {
+		World world = newWorld();
+		world.gameMaps.get(0).at(1, 1).setGround(new FlamingTerrain(new Dirt(), 3));
+		byte[] saved = write(GameGroundCodecs.createSnapshot(), world);
+
+		World target = newWorld();
+		byte[] before = write(new WorldSnapshot(), target);
+		try {
+			new WorldSnapshot().read(target, Channels.newChannel(new ByteArrayInputStream(saved)));
+			check(false, "a Ground saved with its state can't be read without its codec");
+		} catch (InvalidClassException e) {
+			check(Arrays.equals(before, write(new WorldSnapshot(), target)), "reading without the codec leaves the World as it was");
+		}
+	}
+
+	private static World newWorld() {
+		World world = new World(new HeadlessDisplay());
+		world.addGameMap(new GameMap("Test", new FancyGroundFactory(new Dirt(), new Wall(), new Puddle()),
+				List.of("......", "..~...", "......")));
+		return world;
+	}
+
+	private static byte[] write(WorldSnapshot snapshot, World world) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		snapshot.write(world, Channels.newChannel(bytes));
+		return bytes.toByteArray();
+	}
+
+	private static void check(boolean condition, String description) {
+		if (!condition) {
+			failures++;
+			System.out.println("FAILED: " + description);
+		}
+	}
+}